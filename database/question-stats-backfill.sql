@@ -0,0 +1,10 @@
+-- 기존 질문에 대한 question_stats 초기 데이터 생성 (question_stats 테이블 생성 후 1회 실행)
+insert into question_stats (id_question, vote_count, comment_count, bookmark_count, view_count)
+select q.id_question,
+       (select count(*) from vote v where v.id_question = q.id_question and v.deleted_at is null),
+       (select count(*) from comment c where c.id_question = q.id_question and c.deleted_at is null),
+       (select count(*) from bookmark b where b.id_question = q.id_question and b.deleted_at is null),
+       coalesce((select qv.view_count from question_view qv where qv.id_question = q.id_question and qv.deleted_at is null), 0)
+from question q
+where q.deleted_at is null
+  and not exists (select 1 from question_stats qs where qs.id_question = q.id_question);
@@ -32,6 +32,8 @@ create index idx_question_close_at on question (close_at);
 create index idx_question_deleted_at on question (deleted_at);
 create index idx_question_close_at_deleted_at on question (close_at, deleted_at);
 create index idx_question_status_close_at on question (status, close_at);
+create index idx_question_created_at_id on question (created_at, id_question);
+create index idx_question_type_status_created_at_id on question (type, status, created_at, id_question);
 
 create table bookmark
 (
@@ -89,6 +91,8 @@ create  index idx_comment_commenter_question on comment (id_question, id_comment
 
 create  index idx_comment_question on comment (id_question);
 
+create  index idx_comment_question_created_at_id on comment (id_question, created_at, id_comment);
+
 create table commenter_sequence
 (
     sequence         int                                  not null comment '댓글 작성자 부여 번호',
@@ -129,6 +133,35 @@ create  table question_view
     constraint fk_question_view_question foreign key (id_question) references question (id_question)
 );
 
+create table question_stats
+(
+    vote_count        int                                  not null comment '질문 투표 수',
+    comment_count     int                                  not null comment '질문 댓글 수',
+    bookmark_count    int                                  not null comment '질문 저장 수',
+    view_count        int                                  not null comment '질문 조회 수',
+    created_at        datetime default current_timestamp() not null comment '생성 시간',
+    deleted_at        datetime                             null comment '삭제 시간',
+    id_question       bigint                               not null comment '질문 PK',
+    id_question_stats bigint auto_increment primary key,
+    modified_at       datetime default current_timestamp() not null on update current_timestamp() comment '수정 시간',
+    constraint uk_question_stats_question unique (id_question),
+    constraint fk_question_stats_question foreign key (id_question) references question (id_question)
+);
+
+create table user_stats
+(
+    vote_count    int                                  not null comment '사용자 투표 수',
+    comment_count int                                  not null comment '사용자 댓글 수',
+    level         varchar(20)                          not null comment '사용자 레벨',
+    created_at    datetime default current_timestamp() not null comment '생성 시간',
+    deleted_at    datetime                             null comment '삭제 시간',
+    id_user       bigint                               not null comment '사용자 PK',
+    id_user_stats bigint auto_increment primary key,
+    modified_at   datetime default current_timestamp() not null on update current_timestamp() comment '수정 시간',
+    constraint uk_user_stats_user unique (id_user),
+    constraint fk_user_stats_users foreign key (id_user) references users (id_users)
+);
+
 create  table vote
 (
     valid       bit      default b'1'                null comment '투표 유니크 검증을 위한 필드',
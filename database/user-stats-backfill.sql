@@ -0,0 +1,17 @@
+-- 기존 사용자에 대한 user_stats 초기 데이터 생성 (user_stats 테이블 생성 후 1회 실행)
+insert into user_stats (id_user, vote_count, comment_count, level)
+select s.id_users,
+       s.vote_count,
+       s.comment_count,
+       case
+           when s.vote_count >= 300 and s.comment_count >= 100 then 'PROFESSOR'
+           when s.vote_count >= 100 and s.comment_count >= 30 then 'DOCTOR'
+           when s.vote_count >= 20 and s.comment_count >= 5 then 'MASTER'
+           else 'BACHELOR'
+           end
+from (select u.id_users,
+             (select count(*) from vote v where v.id_voter = u.id_users and v.deleted_at is null) as vote_count,
+             (select count(*) from comment c where c.id_commenter = u.id_users and c.deleted_at is null) as comment_count
+      from users u
+      where u.deleted_at is null) s
+where not exists (select 1 from user_stats us where us.id_user = s.id_users);
@@ -0,0 +1,61 @@
+package com.chwihae.config.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.chwihae.config.redis.QuestionViewCacheRepository.KEY_FORMAT;
+import static com.chwihae.config.redis.QuestionViewCacheRepository.KEY_PATTERN_REGEX;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuestionViewCacheRepositoryBenchmark {
+
+    private QuestionViewCacheRepository questionViewCacheRepository;
+    private Long questionId;
+    private String key;
+
+    @Setup
+    public void setUp() {
+        // 키 변환만 측정하므로 Redis 템플릿은 필요 없다
+        questionViewCacheRepository = new QuestionViewCacheRepository(null, new SimpleMeterRegistry());
+        questionId = 123456L;
+        key = questionViewCacheRepository.getKey(questionId);
+    }
+
+    // 변경 전에는 호출마다 정규식을 컴파일했다
+    @Benchmark
+    public Optional<Long> legacyExtractQuestionIdFromKey() {
+        Matcher matcher = Pattern.compile(KEY_PATTERN_REGEX).matcher(key);
+        if (matcher.find()) {
+            return Optional.of(Long.parseLong(matcher.group(1)));
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<Long> extractQuestionIdFromKey() {
+        return questionViewCacheRepository.extractQuestionIdFromKey(key);
+    }
+
+    @Benchmark
+    public String legacyGetKey() {
+        return String.format(KEY_FORMAT, questionId);
+    }
+
+    @Benchmark
+    public String getKey() {
+        return questionViewCacheRepository.getKey(questionId);
+    }
+}
@@ -0,0 +1,58 @@
+package com.chwihae.config.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenHandlerBenchmark {
+
+    private static final String SECRET_KEY = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
+
+    private JwtTokenHandler jwtTokenHandler;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenHandler = new JwtTokenHandler();
+        token = jwtTokenHandler.generateToken(1L, SECRET_KEY, TimeUnit.DAYS.toMillis(1));
+    }
+
+    // 변경 전 JwtTokenFilter 는 요청마다 키와 파서를 새로 만들어 토큰을 두 번 파싱했다
+    @Benchmark
+    public Long legacyVerifyAndGetUserId() {
+        legacyParse();
+        return legacyParse().get("user_id", Long.class);
+    }
+
+    @Benchmark
+    public Long parseWithCachedParser() {
+        return jwtTokenHandler.getUserIdFromToken(SECRET_KEY, token);
+    }
+
+    @Benchmark
+    public Long verifyTokenAndGetUserId() {
+        return jwtTokenHandler.verifyTokenAndGetUserId(SECRET_KEY, token);
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,70 @@
+package com.chwihae.domain.question;
+
+import com.chwihae.domain.user.UserEntity;
+import com.chwihae.dto.question.response.QuestionListResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.chwihae.domain.question.QQuestionEntity.questionEntity;
+import static com.chwihae.domain.question.QQuestionStatsEntity.questionStatsEntity;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionRepositoryExtensionImplBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private List<Tuple> tuples;
+
+    @Setup
+    public void setUp() {
+        UserEntity user = UserEntity.builder().email("benchmark@email.com").build();
+        LocalDateTime closeAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+        tuples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            QuestionEntity question = QuestionEntity.builder()
+                    .userEntity(user)
+                    .title("title" + i)
+                    .content("content" + i)
+                    .type(QuestionType.ETC)
+                    .closeAt(closeAt)
+                    .build();
+            // LEFT JOIN 으로 통계가 없는 행도 섞어 둔다
+            Integer count = (i % 4 == 0) ? null : i;
+            tuples.add(Projections.tuple(questionEntity, questionStatsEntity.commentCount, questionStatsEntity.bookmarkCount)
+                    .newInstance(question, count, count));
+        }
+    }
+
+    // 변경 전에는 카운트마다 Optional 을 만들고 스트림으로 수집했다
+    @Benchmark
+    public List<QuestionListResponse> legacyTransformTuplesToDTOs() {
+        return tuples.stream()
+                .map(tuple -> QuestionListResponse.of(
+                        tuple.get(questionEntity),
+                        Optional.ofNullable(tuple.get(questionStatsEntity.commentCount)).orElse(0),
+                        Optional.ofNullable(tuple.get(questionStatsEntity.bookmarkCount)).orElse(0)))
+                .toList();
+    }
+
+    @Benchmark
+    public List<QuestionListResponse> transformTuplesToDTOs() {
+        return QuestionRepositoryExtensionImpl.transformTuplesToDTOs(tuples);
+    }
+}
@@ -0,0 +1,38 @@
+package com.chwihae.domain.user;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserLevelBenchmark {
+
+    // 가장 먼저 매칭되는 레벨과 끝까지 탐색하는 레벨을 모두 측정한다
+    @Param({"300", "0"})
+    private long voteCount;
+
+    @Param({"100", "0"})
+    private long commentCount;
+
+    @Benchmark
+    public UserLevel legacyGetLevel() {
+        return Arrays.stream(UserLevel.values())
+                .filter(level -> (voteCount >= level.getVoteCount()) && (commentCount >= level.getCommentCount()))
+                .findFirst()
+                .orElse(UserLevel.BACHELOR);
+    }
+
+    @Benchmark
+    public UserLevel getLevel() {
+        return UserLevel.getLevel(voteCount, commentCount);
+    }
+}
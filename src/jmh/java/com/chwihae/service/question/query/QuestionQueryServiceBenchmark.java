@@ -0,0 +1,63 @@
+package com.chwihae.service.question.query;
+
+import com.chwihae.dto.question.response.QuestionListResponse;
+import com.chwihae.dto.question.response.QuestionViewResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionQueryServiceBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"10", "50", "200"})
+    private int size;
+
+    private List<QuestionListResponse> content;
+    private List<QuestionViewResponse> allViewCounts;
+
+    @Setup
+    public void setUp() {
+        content = new ArrayList<>(size);
+        allViewCounts = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            content.add(QuestionListResponse.builder().id(id).title("title" + id).build());
+            allViewCounts.add(new QuestionViewResponse(id, id * 10));
+        }
+        // Redis 응답 순서는 페이지 순서와 다르므로 고정 시드로 섞어 실행마다 같은 입력을 쓴다
+        Collections.shuffle(allViewCounts, new Random(SEED));
+    }
+
+    // 변경 전에는 질문마다 전체 조회 수 목록을 선형 탐색했다 (O(n·m))
+    @Benchmark
+    public List<QuestionListResponse> legacySetPageViewCounts() {
+        content.forEach(it ->
+                allViewCounts.stream()
+                        .filter(view -> Objects.equals(view.getQuestionId(), it.getId()))
+                        .findFirst()
+                        .ifPresent(view -> it.setViewCount(view.getViewCount()))
+        );
+        return content;
+    }
+
+    @Benchmark
+    public List<QuestionListResponse> setPageViewCounts() {
+        QuestionQueryService.setPageViewCounts(content, allViewCounts);
+        return content;
+    }
+}
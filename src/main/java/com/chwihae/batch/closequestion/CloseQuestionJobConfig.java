@@ -1,8 +1,5 @@
 package com.chwihae.batch.closequestion;
 
-import com.chwihae.domain.question.QuestionEntity;
-import com.chwihae.domain.question.QuestionRepository;
-import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -12,16 +9,19 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
 import java.time.LocalDateTime;
-import java.util.Collections;
 
+import static com.chwihae.domain.question.QuestionStatus.COMPLETED;
+import static com.chwihae.domain.question.QuestionStatus.IN_PROGRESS;
 import static com.chwihae.utils.TimeUtils.KST;
 
 @Slf4j
@@ -29,11 +29,10 @@ import static com.chwihae.utils.TimeUtils.KST;
 @Configuration
 public class CloseQuestionJobConfig {
 
-    private final int CHUNK_SIZE = 50;
+    private final int CHUNK_SIZE = 500;
     private final JobRepository jobRepository;
-    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
     private final PlatformTransactionManager transactionManager;
-    private final QuestionRepository questionRepository;
 
     @Bean(name = "closeQuestionJob")
     public Job closeQuestionJob() {
@@ -46,7 +45,7 @@ public class CloseQuestionJobConfig {
     public Step closeQuestionStep() {
         return new StepBuilder("closeQuestionStep", jobRepository)
                 .repository(jobRepository)
-                .<QuestionEntity, QuestionEntity>chunk(CHUNK_SIZE, transactionManager)
+                .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
                 .reader(closeQuestionItemReader())
                 .writer(closeQuestionItemWriter())
                 .faultTolerant()
@@ -61,40 +60,51 @@ public class CloseQuestionJobConfig {
                     }
 
                     @Override
-                    public void onSkipInWrite(QuestionEntity item, Throwable t) {
-                        log.error("Skip during WRITE for item: {}", item, t);
+                    public void onSkipInWrite(Long item, Throwable t) {
+                        log.error("Skip during WRITE for question id: {}", item, t);
                     }
 
                     @Override
-                    public void onSkipInProcess(QuestionEntity item, Throwable t) {
-                        log.error("Skip during PROCESS for item: {}", item, t);
+                    public void onSkipInProcess(Long item, Throwable t) {
+                        log.error("Skip during PROCESS for question id: {}", item, t);
                     }
                 })
                 .build();
     }
 
+    // idx_question_status_close_at 인덱스만으로 마감 대상 질문 아이디를 조회한다
     @Bean
     @StepScope
-    public JpaPagingItemReader<QuestionEntity> closeQuestionItemReader() {
-        return new JpaPagingItemReaderBuilder<QuestionEntity>()
+    public JdbcCursorItemReader<Long> closeQuestionItemReader() {
+        return new JdbcCursorItemReaderBuilder<Long>()
                 .name("closeQuestionItemReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT qe " +
-                        "FROM QuestionEntity qe " +
-                        "WHERE qe.closeAt < :now")
-                .parameterValues(Collections.singletonMap("now", LocalDateTime.now(KST)))
-                .pageSize(CHUNK_SIZE)
+                .dataSource(dataSource)
+                .sql("SELECT id_question " +
+                        "FROM question " +
+                        "WHERE status = ? AND close_at < ? AND deleted_at IS NULL")
+                .preparedStatementSetter(ps -> {
+                    ps.setString(1, IN_PROGRESS.name());
+                    ps.setObject(2, LocalDateTime.now(KST));
+                })
+                .rowMapper((rs, rowNum) -> rs.getLong("id_question"))
+                .fetchSize(CHUNK_SIZE)
                 .build();
     }
 
     @Bean
     @StepScope
-    public ItemWriter<QuestionEntity> closeQuestionItemWriter() {
-        return questionEntities -> {
-            for (QuestionEntity questionEntity : questionEntities) {
-                questionEntity.close();
-            }
-            questionRepository.saveAll(questionEntities);
-        };
+    public JdbcBatchItemWriter<Long> closeQuestionItemWriter() {
+        return new JdbcBatchItemWriterBuilder<Long>()
+                .dataSource(dataSource)
+                .sql("UPDATE question " +
+                        "SET status = ? " +
+                        "WHERE id_question = ? AND status = ?")
+                .itemPreparedStatementSetter((questionId, ps) -> {
+                    ps.setString(1, COMPLETED.name());
+                    ps.setLong(2, questionId);
+                    ps.setString(3, IN_PROGRESS.name());
+                })
+                .assertUpdates(false) // 이미 마감된 질문은 갱신되지 않을 수 있다
+                .build();
     }
 }
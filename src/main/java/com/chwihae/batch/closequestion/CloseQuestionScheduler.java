@@ -24,7 +24,8 @@ public class CloseQuestionScheduler {
     private final Job closeQuestionJob;
     private final QuestionRepository questionRepository;
 
-    @Scheduled(cron = "0/30 * * * * ?")
+    // 질문 마감은 QuestionExpiryTimer 가 처리하고, 배치 작업은 누락된 질문을 보정한다
+    @Scheduled(cron = "0 0/10 * * * ?")
     public void closeQuestion() {
         if (questionRepository.existsByCloseAtBefore(LocalDateTime.now(KST))) {
             JobParameters jobParameters = new JobParametersBuilder()
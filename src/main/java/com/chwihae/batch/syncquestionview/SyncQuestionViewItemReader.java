@@ -4,62 +4,46 @@ import com.chwihae.config.redis.QuestionViewCacheRepository;
 import com.chwihae.dto.question.response.QuestionViewResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemReader;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
 
-import java.io.Closeable;
-import java.util.Optional;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
 
 @RequiredArgsConstructor
-public class SyncQuestionViewItemReader implements ItemReader<QuestionViewResponse>, Closeable {
+public class SyncQuestionViewItemReader implements ItemReader<QuestionViewResponse> {
 
-    private final RedisTemplate<String, Long> questionViewRedisTemplate;
     private final QuestionViewCacheRepository questionViewCacheRepository;
     private final int batchSize;
-    private Cursor<String> cursor = null;
+    private final Queue<QuestionViewResponse> buffer = new LinkedList<>();
+    private Long remaining = null;
 
     @Override
     public QuestionViewResponse read() throws Exception {
-
-        if (cursor == null) {
-            ScanOptions scanOptions = ScanOptions.scanOptions().match(QuestionViewCacheRepository.KEY_PATTERN).count(batchSize).build();
-            cursor = questionViewRedisTemplate.scan(scanOptions);
+        if (Objects.isNull(remaining)) {
+            // 실행 중에 새로 변경된 질문은 다음 실행에서 처리한다
+            remaining = questionViewCacheRepository.countDirtyQuestionIds();
         }
 
-        while (cursor.hasNext()) {
-            String key = cursor.next();
-            Optional<Long> questionIdOpt = questionViewCacheRepository.extractQuestionIdFromKey(key);
-            if (questionIdOpt.isEmpty()) {
-                continue;
-            }
-
-            Long questionId = questionIdOpt.get();
-            Optional<Long> viewCountOpt = questionViewCacheRepository.getViewCount(questionId);
-            if (viewCountOpt.isEmpty()) {
-                continue;
-            }
-
-            Long viewCount = viewCountOpt.get();
-            return new QuestionViewResponse(questionId, viewCount);
+        while (buffer.isEmpty() && remaining > 0) {
+            fill();
         }
-
-        close();
-
-        return null;
+        return buffer.poll();
     }
 
-    @Override
-    public void close() {
-        if (cursor != null) {
-            cursor.close();
-            cursor = null;
+    private void fill() {
+        List<Long> questionIds = questionViewCacheRepository.popDirtyQuestionIds(Math.min(batchSize, remaining));
+        if (questionIds.isEmpty()) {
+            remaining = 0L;
+            return;
         }
-    }
 
-    @Override
-    protected void finalize() throws Throwable {
-        close();
-        super.finalize();
+        remaining -= questionIds.size();
+        try {
+            buffer.addAll(questionViewCacheRepository.getViewCounts(questionIds));
+        } catch (RuntimeException e) {
+            questionViewCacheRepository.markDirty(questionIds);
+            throw e;
+        }
     }
 }
@@ -0,0 +1,62 @@
+package com.chwihae.batch.syncquestionview;
+
+import com.chwihae.config.redis.QuestionViewCacheRepository;
+import com.chwihae.dto.question.response.QuestionViewResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class SyncQuestionViewItemWriter implements ItemWriter<QuestionViewResponse> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuestionViewCacheRepository questionViewCacheRepository;
+
+    @Override
+    public void write(Chunk<? extends QuestionViewResponse> chunk) {
+        if (CollectionUtils.isEmpty(chunk.getItems())) {
+            return;
+        }
+
+        Map<Long, Long> viewCounts = chunk.getItems().stream()
+                .collect(Collectors.toMap(QuestionViewResponse::getQuestionId, QuestionViewResponse::getViewCount, Math::max));
+        List<Long> questionIds = new ArrayList<>(viewCounts.keySet());
+        Object[] args = buildArgs(questionIds, viewCounts);
+
+        try {
+            jdbcTemplate.update(buildUpdateSql("question_view", questionIds.size()), args);
+            jdbcTemplate.update(buildUpdateSql("question_stats", questionIds.size()), args);
+        } catch (RuntimeException e) {
+            questionViewCacheRepository.markDirty(questionIds); // 다음 동기화 때 다시 반영한다
+            throw e;
+        }
+    }
+
+    // 조회 수는 감소하지 않으므로 DB 값보다 클 때만 반영한다
+    static String buildUpdateSql(String table, int size) {
+        return "UPDATE " + table + " " +
+                "SET view_count = GREATEST(view_count, CASE id_question " +
+                String.join(" ", Collections.nCopies(size, "WHEN ? THEN ?")) +
+                " ELSE view_count END) " +
+                "WHERE id_question IN (" + String.join(", ", Collections.nCopies(size, "?")) + ") " +
+                "AND deleted_at IS NULL";
+    }
+
+    private Object[] buildArgs(List<Long> questionIds, Map<Long, Long> viewCounts) {
+        List<Object> args = new ArrayList<>();
+        questionIds.forEach(it -> {
+            args.add(it);
+            args.add(viewCounts.get(it));
+        });
+        args.addAll(questionIds);
+        return args.toArray();
+    }
+}
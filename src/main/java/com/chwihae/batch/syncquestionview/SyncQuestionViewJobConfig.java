@@ -1,8 +1,6 @@
 package com.chwihae.batch.syncquestionview;
 
 import com.chwihae.config.redis.QuestionViewCacheRepository;
-import com.chwihae.domain.question.QuestionViewEntity;
-import com.chwihae.domain.question.QuestionViewRepository;
 import com.chwihae.dto.question.response.QuestionViewResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,25 +14,17 @@ import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.util.CollectionUtils;
-
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Configuration
 public class SyncQuestionViewJobConfig {
 
-    public static final int CHUNK_SIZE = 20;
+    public static final int CHUNK_SIZE = 100;
     private final JobRepository jobRepository;
-    private final RedisTemplate<String, Long> questionViewRedisTemplate;
-    private final QuestionViewRepository questionViewRepository;
+    private final JdbcTemplate jdbcTemplate;
     private final QuestionViewCacheRepository questionViewCacheRepository;
     private final PlatformTransactionManager transactionManager;
 
@@ -58,34 +48,12 @@ public class SyncQuestionViewJobConfig {
     @Bean
     @StepScope
     public ItemReader<QuestionViewResponse> syncQuestionViewItemReader() {
-        return new SyncQuestionViewItemReader(questionViewRedisTemplate, questionViewCacheRepository, CHUNK_SIZE);
+        return new SyncQuestionViewItemReader(questionViewCacheRepository, CHUNK_SIZE);
     }
 
     @Bean
     @StepScope
     public ItemWriter<QuestionViewResponse> syncQuestionViewItemWriter() {
-        return items -> {
-            if (CollectionUtils.isEmpty(items.getItems())) {
-                return;
-            }
-
-            List<Long> ids = items.getItems().stream().map(QuestionViewResponse::getQuestionId).toList();
-            List<QuestionViewEntity> questionViewEntityList = questionViewRepository.findByQuestionEntityIds(ids);
-
-            Map<Long, QuestionViewResponse> itemIdToResponseMap = items.getItems().stream()
-                    .collect(Collectors.toMap(
-                            QuestionViewResponse::getQuestionId,
-                            Function.identity(),
-                            (existing, replacement) -> existing.getViewCount() >= replacement.getViewCount() ? existing : replacement));
-
-            for (QuestionViewEntity questionViewEntity : questionViewEntityList) {
-                QuestionViewResponse correspondingResponse = itemIdToResponseMap.get(questionViewEntity.getQuestionId());
-
-                if (Objects.nonNull(correspondingResponse) && correspondingResponse.getViewCount() > questionViewEntity.getViewCount()) {
-                    questionViewEntity.setViewCount(correspondingResponse.getViewCount());
-                }
-            }
-            questionViewRepository.saveAll(questionViewEntityList);
-        };
+        return new SyncQuestionViewItemWriter(jdbcTemplate, questionViewCacheRepository);
     }
 }
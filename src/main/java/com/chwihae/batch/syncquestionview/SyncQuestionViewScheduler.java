@@ -1,5 +1,6 @@
 package com.chwihae.batch.syncquestionview;
 
+import com.chwihae.config.redis.QuestionViewCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -17,9 +18,14 @@ public class SyncQuestionViewScheduler {
 
     private final Job syncQuestionViewJob;
     private final JobLauncher jobLauncher;
+    private final QuestionViewCacheRepository questionViewCacheRepository;
 
-    @Scheduled(cron = "0 0 0 ? * SUN")
+    @Scheduled(cron = "0 * * * * ?")
     public void syncQuestionViewCount() {
+        // 동기화할 질문이 없으면 배치 메타데이터를 남기지 않도록 작업을 실행하지 않는다
+        if (questionViewCacheRepository.countDirtyQuestionIds() == 0) {
+            return;
+        }
         JobParameters jobParameters = new JobParametersBuilder()
                 .addLong("time", System.currentTimeMillis())
                 .toJobParameters();
@@ -1,22 +1,38 @@
 package com.chwihae.config.async;
 
+import com.chwihae.config.properties.VirtualThreadProperties;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
+@RequiredArgsConstructor
 @EnableAsync
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
 
     private final int processors = Runtime.getRuntime().availableProcessors();
+    private final VirtualThreadProperties virtualThreadProperties;
 
     @Override
     public Executor getAsyncExecutor() {
+        if (virtualThreadProperties.isEnabled()) {
+            return VirtualThreads.newTaskExecutor("VirtualAsync-");
+        }
+        return asyncTaskExecutor();
+    }
+
+    // 대기열 깊이를 메트릭으로 수집할 수 있도록 빈으로 등록한다
+    @Bean
+    public ThreadPoolTaskExecutor asyncTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         log.info("Initializing async executor");
@@ -42,4 +58,35 @@ public class AsyncConfig implements AsyncConfigurer {
 
         return executor;
     }
+
+    // 질문 상세 조회에서 Redis 조회수를 DB 조회와 병렬로 가져온다 (가상 스레드 모드에서는 VirtualThreadConfig 가 대신 등록한다)
+    @Bean
+    @ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public ThreadPoolTaskExecutor queryTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors * 2);
+        executor.setMaxPoolSize(processors * 4);
+        executor.setQueueCapacity(200);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("QueryExecutor-");
+        // 큐가 가득 차면 요청 스레드에서 직접 실행한다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        log.info("Query executor initialized");
+        return executor;
+    }
+
+    // SSE 전송은 느린 클라이언트에서 블로킹될 수 있으므로 스케줄러 스레드가 아닌 별도 풀에서 실행한다
+    @Bean
+    public ThreadPoolTaskExecutor voteBroadcastExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors * 4);
+        executor.setQueueCapacity(1000);
+        executor.setKeepAliveSeconds(60);
+        executor.setThreadNamePrefix("VoteBroadcast-");
+        executor.initialize();
+        log.info("Vote broadcast executor initialized");
+        return executor;
+    }
 }
@@ -0,0 +1,126 @@
+package com.chwihae.config.async;
+
+import com.chwihae.exception.CustomException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static com.chwihae.exception.CustomExceptionError.INTERNAL_SERVER_ERROR;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ParallelQueryExecutor {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+    private static final String SAVED_NANOS_METRIC = "query.parallel.saved.nanos";
+    private static final String FORKS_METRIC = "query.parallel.forks";
+
+    private final Executor queryTaskExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LongAdder> savedNanos = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> forkCounts = new ConcurrentHashMap<>();
+
+    // first 는 queryTaskExecutor 에서, second 는 호출 스레드에서 실행한 뒤 두 결과를 합친다
+    // 현재는 QuestionQueryService.getQuestion 만 사용하며, name 은 지표의 name 태그로 쓰인다
+    public <A, B, R> R fork(String name, Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combiner) {
+        if (!canFork()) {
+            return combiner.apply(first.get(), second.get());
+        }
+
+        long startedAt = System.nanoTime();
+        TimedResult<A> firstResult;
+        TimedResult<B> secondResult;
+        // CompletableFuture 는 cancel(true) 로 실행 중인 스레드를 인터럽트하지 않으므로 FutureTask 를 직접 실행한다
+        FutureTask<TimedResult<A>> future = new FutureTask<>(() -> TimedResult.of(first));
+        queryTaskExecutor.execute(future);
+        try {
+            secondResult = TimedResult.of(second);
+            firstResult = future.get(remainingNanos(startedAt), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw unwrap(name, e);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Parallel query [{}] timed out after {}", name, TIMEOUT);
+            throw new CustomException(INTERNAL_SERVER_ERROR, "조회 시간이 초과되었습니다");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(INTERNAL_SERVER_ERROR);
+        }
+
+        recordSavedTime(name, firstResult.elapsedNanos() + secondResult.elapsedNanos() - (System.nanoTime() - startedAt));
+        return combiner.apply(firstResult.value(), secondResult.value());
+    }
+
+    public long getSavedNanos(String name) {
+        LongAdder adder = savedNanos.get(name);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long getForkCount(String name) {
+        LongAdder adder = forkCounts.get(name);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 쓰기 트랜잭션 안에서는 다른 스레드가 커밋되지 않은 데이터를 볼 수 없으므로 순차적으로 실행한다
+    private boolean canFork() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private long remainingNanos(long startedAt) {
+        return Math.max(0, TIMEOUT.toNanos() - (System.nanoTime() - startedAt));
+    }
+
+    private RuntimeException unwrap(String name, ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        log.error("Parallel query [{}] failed", name, e.getCause());
+        return new CustomException(INTERNAL_SERVER_ERROR);
+    }
+
+    private void recordSavedTime(String name, long nanos) {
+        savedNanos.computeIfAbsent(name, key -> registerCounter(SAVED_NANOS_METRIC,
+                "Sum of both lookup times minus elapsed time for forked question detail lookups", key)).add(Math.max(0, nanos));
+        forkCounts.computeIfAbsent(name, key -> registerCounter(FORKS_METRIC,
+                "Number of question detail lookups run in parallel", key)).increment();
+    }
+
+    private LongAdder registerCounter(String metricName, String description, String name) {
+        LongAdder adder = new LongAdder();
+        FunctionCounter.builder(metricName, adder, LongAdder::sum)
+                .description(description)
+                .tag("name", name)
+                .register(meterRegistry);
+        return adder;
+    }
+
+    private record TimedResult<T>(T value, long elapsedNanos) {
+
+        static <T> TimedResult<T> of(Supplier<T> supplier) {
+            long startedAt = System.nanoTime();
+            T value = supplier.get();
+            return new TimedResult<>(value, System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.chwihae.config.async;
+
+import com.chwihae.config.properties.VirtualThreadProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Slf4j
+@ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+@Configuration
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig(VirtualThreadProperties virtualThreadProperties) {
+        if (!VirtualThreads.isSupported()) {
+            throw new IllegalStateException("virtual-threads.enabled requires JDK 21 or later, but running on " + Runtime.version());
+        }
+        VirtualThreads.tracePinnedThreads(virtualThreadProperties.getTracePinnedThreads());
+        log.info("Virtual thread mode enabled (jdk.tracePinnedThreads={})", System.getProperty("jdk.tracePinnedThreads"));
+    }
+
+    // 서블릿 요청을 Tomcat 워커 풀 대신 요청마다 가상 스레드에서 처리한다
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newTaskExecutor("VirtualTomcat-"));
+    }
+
+    // 상세 조회의 병렬 조회도 풀 크기 제한 없이 가상 스레드에서 실행한다
+    @Bean
+    public SimpleAsyncTaskExecutor queryTaskExecutor() {
+        return VirtualThreads.newTaskExecutor("VirtualQuery-");
+    }
+
+    // @Scheduled 작업과 스케줄러가 실행하는 배치 잡의 스텝이 가상 스레드에서 실행된다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(TaskSchedulingProperties taskSchedulingProperties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(taskSchedulingProperties.getPool().getSize());
+        scheduler.setThreadFactory(VirtualThreads.threadFactory("VirtualScheduler-"));
+        return scheduler;
+    }
+}
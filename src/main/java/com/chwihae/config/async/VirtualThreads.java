@@ -0,0 +1,42 @@
+package com.chwihae.config.async;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+
+// 빌드 대상은 Java 17 이므로 가상 스레드 API 는 리플렉션으로 호출한다
+public final class VirtualThreads {
+
+    private static final int MINIMUM_FEATURE_VERSION = 21;
+    private static final String TRACE_PINNED_THREADS = "jdk.tracePinnedThreads";
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= MINIMUM_FEATURE_VERSION;
+    }
+
+    public static ThreadFactory threadFactory(String namePrefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Virtual threads require JDK " + MINIMUM_FEATURE_VERSION + " or later, but running on " + Runtime.version(), ex);
+        }
+    }
+
+    // 작업마다 새 가상 스레드를 만들므로 풀 크기나 대기열 제한이 없다
+    public static SimpleAsyncTaskExecutor newTaskExecutor(String namePrefix) {
+        return new SimpleAsyncTaskExecutor(threadFactory(namePrefix));
+    }
+
+    // 첫 가상 스레드가 만들어지기 전에 설정해야 적용된다
+    public static void tracePinnedThreads(String mode) {
+        if (mode != null && !mode.isBlank() && System.getProperty(TRACE_PINNED_THREADS) == null) {
+            System.setProperty(TRACE_PINNED_THREADS, mode);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.chwihae.config.metrics;
+
+import com.chwihae.config.redis.UserContextCacheRepository;
+import com.chwihae.event.question.QuestionViewCountBuffer;
+import com.chwihae.service.commenter.CommenterAliasCache;
+import com.chwihae.service.question.core.QuestionExpiryTimer;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.function.Function;
+
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_LATENCY = "service.latency";
+    public static final String CACHE_REQUESTS = "cache.requests";
+
+    // @Timed 가 붙은 서비스 메서드의 응답 시간을 수집한다
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder executorMetrics(Map<String, ThreadPoolTaskExecutor> executors) {
+        return registry -> executors.forEach((name, executor) -> {
+            Gauge.builder("executor.queue.depth", executor, it -> it.getThreadPoolExecutor().getQueue().size())
+                    .tag("name", name)
+                    .register(registry);
+            Gauge.builder("executor.active.threads", executor, ThreadPoolTaskExecutor::getActiveCount)
+                    .tag("name", name)
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder questionViewBufferMetrics(QuestionViewCountBuffer questionViewCountBuffer) {
+        return registry -> {
+            Gauge.builder("question.view.buffer.pending", questionViewCountBuffer, QuestionViewCountBuffer::getPendingCount)
+                    .register(registry);
+            FunctionCounter.builder("question.view.buffer.buffered", questionViewCountBuffer, QuestionViewCountBuffer::getBufferedCount)
+                    .register(registry);
+            FunctionCounter.builder("question.view.buffer.flushed", questionViewCountBuffer, QuestionViewCountBuffer::getFlushedCount)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder questionExpiryMetrics(QuestionExpiryTimer questionExpiryTimer) {
+        return registry -> Gauge.builder("question.expiry.pending", questionExpiryTimer, QuestionExpiryTimer::getPendingCount)
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder localCacheMetrics(UserContextCacheRepository userContextCacheRepository,
+                                         CommenterAliasCache commenterAliasCache) {
+        return registry -> {
+            bindLocalCache(registry, "user_context", userContextCacheRepository, UserContextCacheRepository::getLocalCacheStats);
+            bindLocalCache(registry, "commenter_alias", commenterAliasCache, CommenterAliasCache::getStats);
+            Gauge.builder("cache.local.size", commenterAliasCache, CommenterAliasCache::size)
+                    .tag("cache", "commenter_alias")
+                    .register(registry);
+        };
+    }
+
+    // 미터는 대상 객체를 약한 참조로 들고 있으므로 스프링 빈을 대상으로 등록한다
+    private <T> void bindLocalCache(MeterRegistry registry, String cache, T source, Function<T, CacheStats> stats) {
+        FunctionCounter.builder(CACHE_REQUESTS, source, it -> stats.apply(it).hitCount())
+                .tags("cache", cache, "tier", "local", "result", "hit")
+                .register(registry);
+        FunctionCounter.builder(CACHE_REQUESTS, source, it -> stats.apply(it).missCount())
+                .tags("cache", cache, "tier", "local", "result", "miss")
+                .register(registry);
+    }
+}
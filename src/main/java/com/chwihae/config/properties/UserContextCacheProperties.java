@@ -0,0 +1,28 @@
+package com.chwihae.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "user-context-cache")
+@Setter
+@Getter
+@Component
+@Validated
+public class UserContextCacheProperties {
+
+    @Positive(message = "Local cache maximum size must be positive")
+    private long localMaximumSize = 10_000;
+
+    @NotNull(message = "Local cache TTL must not be null")
+    private Duration localTtl = Duration.ofMinutes(5);
+
+    // 여러 서버에서 로컬 캐시를 함께 무효화하려면 Redis pub/sub 을 사용한다
+    private boolean invalidationEnabled = false;
+}
@@ -0,0 +1,23 @@
+package com.chwihae.config.properties;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "virtual-threads")
+@Setter
+@Getter
+@Component
+@Validated
+public class VirtualThreadProperties {
+
+    // JDK 21 이상에서만 켤 수 있으며, 요청 처리와 비동기 작업, 스케줄러를 가상 스레드에서 실행한다
+    private boolean enabled = false;
+
+    // 가상 스레드가 캐리어 스레드에 고정되면 스택을 출력한다 (비워두면 출력하지 않는다)
+    @Pattern(regexp = "^(short|full)?$", message = "Pinned thread tracing must be one of short, full or empty")
+    private String tracePinnedThreads = "short";
+}
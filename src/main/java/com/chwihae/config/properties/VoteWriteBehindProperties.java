@@ -0,0 +1,25 @@
+package com.chwihae.config.properties;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@ConfigurationProperties(prefix = "vote-write-behind")
+@Setter
+@Getter
+@Component
+@Validated
+public class VoteWriteBehindProperties {
+
+    // 활성화하면 투표를 Redis 스트림에 적재한 뒤 바로 응답하고, 배치로 DB 에 저장한다
+    private boolean enabled = false;
+
+    @Positive(message = "Vote write-behind batch size must be positive")
+    private int batchSize = 500;
+
+    @Positive(message = "Vote write-behind flush interval must be positive")
+    private long flushIntervalMillis = 50;
+}
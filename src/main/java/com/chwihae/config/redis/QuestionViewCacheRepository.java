@@ -1,11 +1,17 @@
 package com.chwihae.config.redis;
 
 import com.chwihae.dto.question.response.QuestionViewResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.CollectionUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -13,6 +19,8 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static com.chwihae.config.metrics.MetricsConfig.CACHE_REQUESTS;
+
 @RequiredArgsConstructor
 @Repository
 public class QuestionViewCacheRepository {
@@ -20,8 +28,25 @@ public class QuestionViewCacheRepository {
     public static final String KEY_FORMAT = "question:%d:views";
     public static final String KEY_PATTERN = "question:*:views";
     public static final String KEY_PATTERN_REGEX = "^question:(\\d+):views$";
+    public static final String DIRTY_KEY = "question:views:dirty";
+    private static final String KEY_PREFIX = "question:";
+    private static final String KEY_SUFFIX = ":views";
+    private static final Pattern KEY_REGEX = Pattern.compile(KEY_PATTERN_REGEX);
     private static final Duration CACHE_TTL = Duration.ofDays(1);
+    // 조회 수가 변경된 질문 아이디는 DIRTY_KEY 에 기록하여 동기화 배치가 변경분만 처리하도록 한다
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "redis.call('SADD', KEYS[2], ARGV[2]) " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+                    "end " +
+                    "return nil", Long.class);
+    // 동시에 여러 요청이 초기화를 시도해도 SET NX 로 한 번만 초기화되고 모든 INCRBY 는 반영된다
+    private static final RedisScript<Long> INITIALIZE_AND_INCREMENT_SCRIPT = RedisScript.of(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[4]) " +
+                    "return redis.call('INCRBY', KEYS[1], ARGV[3])", Long.class);
     private final RedisTemplate<String, Long> questionViewRedisTemplate;
+    private final MeterRegistry meterRegistry;
 
     public Long setViewCount(Long questionId, Long viewCount) {
         String key = getKey(questionId);
@@ -32,6 +57,7 @@ public class QuestionViewCacheRepository {
     public Optional<Long> getViewCount(Long questionId) {
         String key = getKey(questionId);
         Long viewCount = questionViewRedisTemplate.opsForValue().get(key);
+        recordRequests(Objects.nonNull(viewCount) ? 1 : 0, Objects.isNull(viewCount) ? 1 : 0);
         return Optional.ofNullable(viewCount);
     }
 
@@ -40,16 +66,40 @@ public class QuestionViewCacheRepository {
             return new ArrayList<>();
         }
 
-        List<String> existingKeys = getExistingKeys(questionIds);
-        List<Long> viewCounts = questionViewRedisTemplate.opsForValue().multiGet(existingKeys);
+        List<Long> distinctIds = questionIds.stream().distinct().toList();
+        List<String> keys = distinctIds.stream().map(this::getKey).toList();
+        List<Long> viewCounts = questionViewRedisTemplate.opsForValue().multiGet(keys); // MGET 한 번으로 조회, 없는 키는 null
         if (CollectionUtils.isEmpty(viewCounts)) {
             return new ArrayList<>();
         }
 
-        return IntStream.range(0, existingKeys.size())
-                .mapToObj(index -> createQuestionViewResponse(existingKeys.get(index), viewCounts.get(index)))
-                .filter(Objects::nonNull)
+        List<QuestionViewResponse> responses = IntStream.range(0, distinctIds.size())
+                .filter(index -> Objects.nonNull(viewCounts.get(index)))
+                .mapToObj(index -> new QuestionViewResponse(distinctIds.get(index), viewCounts.get(index)))
                 .collect(Collectors.toCollection(ArrayList::new));
+        recordRequests(responses.size(), distinctIds.size() - responses.size());
+        return responses;
+    }
+
+    private void recordRequests(long hits, long misses) {
+        meterRegistry.counter(CACHE_REQUESTS, "cache", "question_view", "tier", "redis", "result", "hit").increment(hits);
+        meterRegistry.counter(CACHE_REQUESTS, "cache", "question_view", "tier", "redis", "result", "miss").increment(misses);
+    }
+
+    public void setViewCounts(List<QuestionViewResponse> views) {
+        if (CollectionUtils.isEmpty(views)) {
+            return;
+        }
+
+        questionViewRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Long> redisOperations = (RedisOperations<String, Long>) operations;
+                views.forEach(it -> redisOperations.opsForValue().set(getKey(it.getQuestionId()), it.getViewCount(), CACHE_TTL));
+                return null;
+            }
+        });
     }
 
     public void deleteKey(String key) {
@@ -61,6 +111,70 @@ public class QuestionViewCacheRepository {
         questionViewRedisTemplate.opsForValue().increment(key, 1);
     }
 
+    public Optional<Long> incrementViewCountIfExists(Long questionId) {
+        return incrementViewCountIfExists(questionId, 1L);
+    }
+
+    public Optional<Long> incrementViewCountIfExists(Long questionId, Long delta) {
+        String key = getKey(questionId);
+        return Optional.ofNullable(questionViewRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(key, DIRTY_KEY), delta, questionId));
+    }
+
+    public Long initializeAndIncrementViewCount(Long questionId, Long viewCount) {
+        return initializeAndIncrementViewCount(questionId, viewCount, 1L);
+    }
+
+    public Long initializeAndIncrementViewCount(Long questionId, Long viewCount, Long delta) {
+        String key = getKey(questionId);
+        return questionViewRedisTemplate.execute(INITIALIZE_AND_INCREMENT_SCRIPT, List.of(key, DIRTY_KEY), viewCount, CACHE_TTL.getSeconds(), delta, questionId);
+    }
+
+    public List<Long> incrementViewCountsIfExist(Map<Long, Long> deltas) {
+        if (CollectionUtils.isEmpty(deltas)) {
+            return new ArrayList<>();
+        }
+
+        List<Long> questionIds = new ArrayList<>(deltas.keySet());
+        // 파이프라인 안에서는 NOSCRIPT 오류가 closePipeline 에서야 드러나 EVAL 로 재시도하지 못하므로 스크립트를 먼저 적재한다
+        loadScript(INCREMENT_IF_EXISTS_SCRIPT);
+        List<Object> results = questionViewRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Long> redisOperations = (RedisOperations<String, Long>) operations;
+                questionIds.forEach(it -> redisOperations.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(getKey(it), DIRTY_KEY), deltas.get(it), it));
+                return null;
+            }
+        });
+
+        return IntStream.range(0, questionIds.size())
+                .filter(index -> Objects.isNull(results.get(index)))
+                .mapToObj(questionIds::get)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private void loadScript(RedisScript<?> script) {
+        questionViewRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands()
+                .scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public List<Long> popDirtyQuestionIds(long count) {
+        List<Long> questionIds = questionViewRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        return Objects.isNull(questionIds) ? new ArrayList<>() : questionIds;
+    }
+
+    public void markDirty(Collection<Long> questionIds) {
+        if (CollectionUtils.isEmpty(questionIds)) {
+            return;
+        }
+        questionViewRedisTemplate.opsForSet().add(DIRTY_KEY, questionIds.toArray(Long[]::new));
+    }
+
+    public long countDirtyQuestionIds() {
+        Long size = questionViewRedisTemplate.opsForSet().size(DIRTY_KEY);
+        return Objects.isNull(size) ? 0L : size;
+    }
+
     public boolean existsByQuestionId(Long questionId) {
         String key = getKey(questionId);
         return Boolean.TRUE.equals(questionViewRedisTemplate.hasKey(key));
@@ -71,11 +185,11 @@ public class QuestionViewCacheRepository {
         if (keys != null && !keys.isEmpty()) {
             questionViewRedisTemplate.delete(keys);
         }
+        questionViewRedisTemplate.delete(DIRTY_KEY);
     }
 
     public Optional<Long> extractQuestionIdFromKey(String key) {
-        Pattern pattern = Pattern.compile(KEY_PATTERN_REGEX);
-        Matcher matcher = pattern.matcher(key);
+        Matcher matcher = KEY_REGEX.matcher(key);
 
         if (matcher.find()) {
             return Optional.of(Long.parseLong(matcher.group(1)));
@@ -88,20 +202,7 @@ public class QuestionViewCacheRepository {
     }
 
     public String getKey(Long questionId) {
-        return String.format(KEY_FORMAT, questionId);
-    }
-
-    private List<String> getExistingKeys(List<Long> questionIds) {
-        return questionIds.stream()
-                .map(this::getKey)
-                .distinct()
-                .filter(questionViewRedisTemplate::hasKey)
-                .toList();
-    }
-
-    private QuestionViewResponse createQuestionViewResponse(String key, Long viewCount) {
-        return extractQuestionIdFromKey(key)
-                .map(questionId -> new QuestionViewResponse(questionId, Optional.ofNullable(viewCount).orElse(0L)))
-                .orElse(null);
+        // 동기화 배치에서 키마다 호출되므로 String.format 대신 단순 연결을 사용한다
+        return KEY_PREFIX + questionId + KEY_SUFFIX;
     }
 }
@@ -1,38 +1,105 @@
 package com.chwihae.config.redis;
 
+import com.chwihae.config.properties.UserContextCacheProperties;
 import com.chwihae.dto.user.UserContext;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+
+import static com.chwihae.config.metrics.MetricsConfig.CACHE_REQUESTS;
 
 @Slf4j
-@RequiredArgsConstructor
 @Repository
 public class UserContextCacheRepository {
 
-    private final RedisTemplate<String, UserContext> userContextRedisTemplate;
+    public static final String INVALIDATION_CHANNEL = "UID:invalidation";
     private static final Duration USER_CACHE_TTL = Duration.ofDays(1);
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final RedisTemplate<String, UserContext> userContextRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserContextCacheProperties properties;
+    private final Cache<Long, UserContext> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    // 자신이 발행한 무효화 메시지를 구분하기 위한 서버 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public UserContextCacheRepository(RedisTemplate<String, UserContext> userContextRedisTemplate,
+                                      StringRedisTemplate stringRedisTemplate,
+                                      UserContextCacheProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.userContextRedisTemplate = userContextRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .recordStats()
+                .build();
+        this.redisHitCounter = meterRegistry.counter(CACHE_REQUESTS, "cache", "user_context", "tier", "redis", "result", "hit");
+        this.redisMissCounter = meterRegistry.counter(CACHE_REQUESTS, "cache", "user_context", "tier", "redis", "result", "miss");
+    }
 
     public UserContext setUserContext(UserContext userContext) {
         String key = getKey(userContext.getId());
-        log.info("Set UserContext to Redis {}({})", key, userContext);
+        log.debug("Set UserContext to Redis {}({})", key, userContext);
         userContextRedisTemplate.opsForValue().set(key, userContext, USER_CACHE_TTL);
+        localCache.put(userContext.getId(), userContext);
+        publishInvalidation(userContext.getId());
         return userContext;
     }
 
     public Optional<UserContext> getUserContext(Long userId) {
-        String key = getKey(userId);
-        UserContext userContext = userContextRedisTemplate.opsForValue().get(key);
-        log.info("Get UserContext from Redis {}", userContext);
+        UserContext cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        UserContext userContext = userContextRedisTemplate.opsForValue().get(getKey(userId));
+        log.debug("Get UserContext from Redis {}", userContext);
+        if (userContext != null) {
+            redisHitCounter.increment();
+            localCache.put(userId, userContext);
+        } else {
+            redisMissCounter.increment();
+        }
         return Optional.ofNullable(userContext);
     }
 
+    public void evictLocal(Long userId) {
+        localCache.invalidate(userId);
+    }
+
+    // 메시지는 "발행 서버 식별자:사용자 아이디" 형식이며, 자신이 발행한 메시지로는 방금 저장한 로컬 캐시를 지우지 않는다
+    public void handleInvalidation(String message) {
+        int delimiterIndex = message.lastIndexOf(MESSAGE_DELIMITER);
+        if (delimiterIndex >= 0 && nodeId.equals(message.substring(0, delimiterIndex))) {
+            return;
+        }
+        evictLocal(Long.valueOf(message.substring(delimiterIndex + 1)));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public CacheStats getLocalCacheStats() {
+        return localCache.stats();
+    }
+
     public void clear() {
+        localCache.invalidateAll();
         Set<String> keys = userContextRedisTemplate.keys("UID:*");
         if (keys != null && !keys.isEmpty()) {
             log.info("Clearing UserContext cache for keys: {}", keys);
@@ -40,6 +107,18 @@ public class UserContextCacheRepository {
         }
     }
 
+    private void publishInvalidation(Long userId) {
+        if (!properties.isInvalidationEnabled()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + MESSAGE_DELIMITER + userId);
+        } catch (RuntimeException e) {
+            // 다른 서버의 로컬 캐시는 TTL 이 지나면 갱신된다
+            log.warn("Failed to publish UserContext invalidation for user {}", userId, e);
+        }
+    }
+
     private String getKey(Long userId) {
         return "UID:" + userId;
     }
@@ -0,0 +1,109 @@
+package com.chwihae.config.redis;
+
+import com.chwihae.domain.user.UserLevel;
+import com.chwihae.dto.user.UserStatisticsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Repository
+public class UserStatsCacheRepository {
+
+    public static final String KEY_FORMAT = "user:%d:stats";
+    public static final String KEY_PATTERN = "user:*:stats";
+    public static final String VERSION_KEY_FORMAT = "user:%d:stats:version";
+    public static final String VERSION_KEY_PATTERN = "user:*:stats:version";
+    private static final Duration CACHE_TTL = Duration.ofDays(1);
+    private static final String VOTE_COUNT = "voteCount";
+    private static final String COMMENT_COUNT = "commentCount";
+    private static final String LEVEL = "level";
+    // KEYS[1]: 캐시 키, KEYS[2]: 버전 키, ARGV[1]: 조회 전에 읽은 버전, ARGV[2]: TTL, ARGV[3..]: 필드와 값
+    private static final RedisScript<Long> SET_IF_VERSION_MATCHES_SCRIPT = RedisScript.of(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+                    "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+                    "return 1", Long.class);
+    // 버전을 올린 뒤 캐시를 지워, 지우기 전에 DB 를 읽은 조회가 이전 값을 다시 쓰지 못하게 한다
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = RedisScript.of(
+            "for i = 1, #KEYS, 2 do " +
+                    "redis.call('INCR', KEYS[i + 1]) " +
+                    "redis.call('EXPIRE', KEYS[i + 1], ARGV[1]) " +
+                    "redis.call('DEL', KEYS[i]) " +
+                    "end " +
+                    "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<UserStatisticsResponse> get(Long userId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(getKey(userId));
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(UserStatisticsResponse.of(
+                UserLevel.valueOf(String.valueOf(entries.get(LEVEL))),
+                Integer.parseInt(String.valueOf(entries.get(COMMENT_COUNT))),
+                Integer.parseInt(String.valueOf(entries.get(VOTE_COUNT)))));
+    }
+
+    // 캐시가 없을 때 DB 를 읽기 전에 버전을 읽어 두고, 그 사이 캐시가 무효화되지 않았을 때만 저장한다
+    public long getVersion(Long userId) {
+        String version = stringRedisTemplate.opsForValue().get(getVersionKey(userId));
+        return Objects.isNull(version) ? 0L : Long.parseLong(version);
+    }
+
+    public boolean setIfVersionMatches(Long userId, long version, UserStatisticsResponse statistics) {
+        Long result = stringRedisTemplate.execute(SET_IF_VERSION_MATCHES_SCRIPT, List.of(getKey(userId), getVersionKey(userId)),
+                String.valueOf(version),
+                String.valueOf(CACHE_TTL.getSeconds()),
+                VOTE_COUNT, String.valueOf(statistics.getVoteCount()),
+                COMMENT_COUNT, String.valueOf(statistics.getCommentCount()),
+                LEVEL, statistics.getLevel().name());
+        return Objects.equals(result, 1L);
+    }
+
+    public void delete(Long userId) {
+        deleteAll(List.of(userId));
+    }
+
+    public void deleteAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        userIds.forEach(it -> {
+            keys.add(getKey(it));
+            keys.add(getVersionKey(it));
+        });
+        stringRedisTemplate.execute(INVALIDATE_SCRIPT, keys, String.valueOf(CACHE_TTL.getSeconds()));
+    }
+
+    public void clear() {
+        Set<String> keys = stringRedisTemplate.keys(KEY_PATTERN);
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        Set<String> versionKeys = stringRedisTemplate.keys(VERSION_KEY_PATTERN);
+        if (versionKeys != null && !versionKeys.isEmpty()) {
+            stringRedisTemplate.delete(versionKeys);
+        }
+    }
+
+    private String getKey(Long userId) {
+        return String.format(KEY_FORMAT, userId);
+    }
+
+    private String getVersionKey(Long userId) {
+        return String.format(VERSION_KEY_FORMAT, userId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.chwihae.config.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class VoteStreamRepository {
+
+    public static final String STREAM_KEY = "votes:stream";
+    public static final String CONSUMER_GROUP = "vote-writer";
+    public static final String VOTERS_KEY_FORMAT = "question:%d:voters";
+    public static final String QUESTION_ID = "questionId";
+    public static final String OPTION_ID = "optionId";
+    public static final String USER_ID = "userId";
+    // 투표자 집합이 DB 에서 초기화되었음을 나타내는 값
+    private static final String INITIALIZED_MARKER = "-";
+    private static final Duration VOTERS_TTL = Duration.ofDays(1);
+    private static final long NOT_INITIALIZED = -1L;
+    private static final RedisScript<Long> ADD_VOTER_IF_INITIALIZED_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "return redis.call('SADD', KEYS[1], ARGV[1])", Long.class);
+    // ARGV[1]: TTL, ARGV[2]: 초기화 표시, ARGV[3..]: 투표자 아이디
+    private static final RedisScript<Long> INITIALIZE_VOTERS_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+                    "for i = 2, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    // 노드마다 pending 목록이 분리되도록 호스트 이름과 프로세스 아이디로 소비자 이름을 만든다
+    private final String consumerName = CONSUMER_GROUP + "-" + resolveHostName() + "-" + ProcessHandle.current().pid();
+
+    // 투표자 집합이 없으면 empty, 처음 투표하면 true, 이미 투표했으면 false 를 반환한다
+    public Optional<Boolean> addVoterIfInitialized(Long questionId, Long userId) {
+        Long result = stringRedisTemplate.execute(ADD_VOTER_IF_INITIALIZED_SCRIPT, List.of(getVotersKey(questionId)), String.valueOf(userId));
+        if (Objects.isNull(result) || result == NOT_INITIALIZED) {
+            return Optional.empty();
+        }
+        return Optional.of(result == 1L);
+    }
+
+    public void initializeVoters(Long questionId, Collection<Long> voterIds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(VOTERS_TTL.getSeconds()));
+        args.add(INITIALIZED_MARKER);
+        voterIds.forEach(it -> args.add(String.valueOf(it)));
+        stringRedisTemplate.execute(INITIALIZE_VOTERS_SCRIPT, List.of(getVotersKey(questionId)), args.toArray());
+    }
+
+    public void removeVoter(Long questionId, Long userId) {
+        stringRedisTemplate.opsForSet().remove(getVotersKey(questionId), String.valueOf(userId));
+    }
+
+    public void deleteVoters(Long questionId) {
+        stringRedisTemplate.delete(getVotersKey(questionId));
+    }
+
+    public RecordId append(Long questionId, Long optionId, Long userId) {
+        return stringRedisTemplate.opsForStream().add(STREAM_KEY, Map.of(
+                QUESTION_ID, String.valueOf(questionId),
+                OPTION_ID, String.valueOf(optionId),
+                USER_ID, String.valueOf(userId)));
+    }
+
+    public void createConsumerGroup() {
+        try {
+            // 스트림이 없어도 그룹을 만들 수 있도록 MKSTREAM 옵션을 사용한다
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류가 발생한다
+            if (!String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+            log.debug("Vote stream consumer group already exists");
+        }
+    }
+
+    // pending 이 true 면 전달되었지만 ACK 되지 않은 투표를 다시 읽는다
+    public List<MapRecord<String, Object, Object>> read(int count, boolean pending) {
+        ReadOffset offset = pending ? ReadOffset.from("0") : ReadOffset.lastConsumed();
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                Consumer.from(CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, offset));
+        return Objects.isNull(records) ? new ArrayList<>() : records;
+    }
+
+    // 종료된 노드에 전달된 채 ACK 되지 않은 투표를 가져와 이 노드의 pending 목록에서 다시 읽을 수 있게 한다
+    public int claimIdle(Duration minIdleTime, int count) {
+        PendingMessages pendingMessages = stringRedisTemplate.opsForStream().pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), count);
+        RecordId[] recordIds = pendingMessages.stream()
+                .filter(it -> !consumerName.equals(it.getConsumerName()))
+                .filter(it -> it.getElapsedTimeSinceLastDelivery().compareTo(minIdleTime) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (recordIds.length == 0) {
+            return 0;
+        }
+        List<MapRecord<String, Object, Object>> claimed = stringRedisTemplate.opsForStream()
+                .claim(STREAM_KEY, CONSUMER_GROUP, consumerName, minIdleTime, recordIds);
+        return Objects.isNull(claimed) ? 0 : claimed.size();
+    }
+
+    public String getConsumerName() {
+        return consumerName;
+    }
+
+    public void acknowledge(List<RecordId> recordIds) {
+        if (CollectionUtils.isEmpty(recordIds)) {
+            return;
+        }
+        stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, CONSUMER_GROUP, recordIds.toArray(RecordId[]::new));
+        stringRedisTemplate.opsForStream().delete(STREAM_KEY, recordIds.toArray(RecordId[]::new));
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private String getVotersKey(Long questionId) {
+        return String.format(VOTERS_KEY_FORMAT, questionId);
+    }
+}
@@ -0,0 +1,105 @@
+package com.chwihae.config.redis;
+
+import com.chwihae.dto.option.response.Option;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Repository
+public class VoteTallyCacheRepository {
+
+    public static final String KEY_FORMAT = "question:%d:votes";
+    public static final String TRACKED_KEY = "question:votes:tracked";
+    private static final Duration CACHE_TTL = Duration.ofDays(1);
+    // 해시가 없을 때 증가시키면 일부 옵션만 담긴 해시가 생기므로 해시가 있을 때만 증가시킨다
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "end " +
+                    "return nil", Long.class);
+    // ARGV[1]: TTL, ARGV[2]: 질문 아이디, ARGV[3..]: 옵션 아이디와 투표 수 쌍
+    private static final String WRITE_TALLIES =
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+                    "redis.call('SADD', KEYS[2], ARGV[2]) " +
+                    "return 1";
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " + WRITE_TALLIES, Long.class);
+    private static final RedisScript<Long> REPLACE_SCRIPT = RedisScript.of(
+            "redis.call('DEL', KEYS[1]) " + WRITE_TALLIES, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Map<Long, Long> getTallies(Long questionId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(getKey(questionId));
+        return entries.entrySet().stream()
+                .collect(Collectors.toMap(
+                        it -> Long.valueOf(it.getKey().toString()),
+                        it -> Long.valueOf(it.getValue().toString())));
+    }
+
+    public boolean initializeTallies(Long questionId, List<Option> options) {
+        return writeTallies(INITIALIZE_SCRIPT, questionId, options);
+    }
+
+    public void replaceTallies(Long questionId, List<Option> options) {
+        writeTallies(REPLACE_SCRIPT, questionId, options);
+    }
+
+    public Optional<Long> incrementIfExists(Long questionId, Long optionId, long delta) {
+        return Optional.ofNullable(stringRedisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(getKey(questionId)),
+                String.valueOf(optionId), String.valueOf(delta)));
+    }
+
+    public Set<Long> findTrackedQuestionIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(TRACKED_KEY);
+        if (CollectionUtils.isEmpty(members)) {
+            return new HashSet<>();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    public boolean exists(Long questionId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getKey(questionId)));
+    }
+
+    public void delete(Long questionId) {
+        stringRedisTemplate.delete(getKey(questionId));
+        stringRedisTemplate.opsForSet().remove(TRACKED_KEY, String.valueOf(questionId));
+    }
+
+    public void clear() {
+        Set<String> keys = stringRedisTemplate.keys("question:*:votes");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        stringRedisTemplate.delete(TRACKED_KEY);
+    }
+
+    private boolean writeTallies(RedisScript<Long> script, Long questionId, List<Option> options) {
+        if (CollectionUtils.isEmpty(options)) {
+            return false;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(CACHE_TTL.getSeconds()));
+        args.add(String.valueOf(questionId));
+        options.forEach(it -> {
+            args.add(String.valueOf(it.getId()));
+            args.add(String.valueOf(Objects.requireNonNullElse(it.getVoteCount(), 0L)));
+        });
+        Long result = stringRedisTemplate.execute(script, List.of(getKey(questionId), TRACKED_KEY), args.toArray());
+        return Objects.equals(result, 1L);
+    }
+
+    private String getKey(Long questionId) {
+        return String.format(KEY_FORMAT, questionId);
+    }
+}
@@ -3,6 +3,7 @@ package com.chwihae.config.security;
 import com.chwihae.config.properties.JwtTokenProperties;
 import com.chwihae.service.user.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,7 +41,9 @@ public class CustomSecurityConfig {
                 .cors(configurer -> configurer.configurationSource(corsConfigurationSource()))
                 .sessionManagement(configurer -> configurer.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(
-                        it -> it.requestMatchers("/", "/docs/**").permitAll()
+                        // SSE 응답의 비동기 디스패치는 최초 요청에서 이미 인증되었다
+                        it -> it.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers("/", "/docs/**").permitAll()
                                 .requestMatchers("/api/*/auth/kakao-login").permitAll()
                                 .requestMatchers("/api/**").authenticated()
                                 .anyRequest().permitAll()
@@ -36,8 +36,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                 return;
             }
 
-            jwtTokenHandler.verifyToken(secretKey, token);
-            Long userId = jwtTokenHandler.getUserIdFromToken(secretKey, token);
+            Long userId = jwtTokenHandler.verifyTokenAndGetUserId(secretKey, token);
             UserContext userContext = userService.getUserContextOrException(userId);
             setAuthentication(userContext);
         } catch (Exception e) {
@@ -1,34 +1,66 @@
 package com.chwihae.config.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Component
 public class JwtTokenHandler {
 
     private static final String USER_ID = "user_id";
     private static final String SUBJECT = "authentication";
+    private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
-    public void verifyToken(String secretKey, String token) {
+    // 비밀 키마다 서명 키와 파서를 한 번만 만든다
+    private final Map<String, SigningContext> signingContexts = new ConcurrentHashMap<>();
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new VerifiedTokenExpiry())
+            .build();
+
+    public Long verifyTokenAndGetUserId(String secretKey, String token) {
         try {
+            String cacheKey = doGetCacheKey(secretKey, token);
+            VerifiedToken verifiedToken = verifiedTokens.getIfPresent(cacheKey);
+            if (verifiedToken != null && !verifiedToken.isExpired()) {
+                return verifiedToken.userId();
+            }
+
             Claims claims = doVerifyTokenAndGetClaims(secretKey, token);
             if (!Objects.equals(claims.getSubject(), SUBJECT)) {
                 throw new JwtException("Invalid subject in the token");
             }
+            Long userId = claims.get(USER_ID, Long.class);
+            verifiedTokens.put(cacheKey, new VerifiedToken(userId, claims.getExpiration().getTime()));
+            return userId;
         } catch (Exception e) {
             throw new JwtException(e.getMessage(), e);
         }
     }
 
+    public void verifyToken(String secretKey, String token) {
+        verifyTokenAndGetUserId(secretKey, token);
+    }
+
     public String generateToken(Long userId, String secretKey, long expiredTimeMs) {
         Claims claims = Jwts.claims();
         claims.put(USER_ID, userId);
@@ -40,7 +72,7 @@ public class JwtTokenHandler {
                 .setSubject(SUBJECT)
                 .setIssuedAt(issuedAt)
                 .setExpiration(new Date(issuedAt.getTime() + expiredTimeMs))
-                .signWith(doGetSignKey(secretKey))
+                .signWith(doGetSigningContext(secretKey).key())
                 .compact();
     }
 
@@ -54,14 +86,51 @@ public class JwtTokenHandler {
     }
 
     private Claims doVerifyTokenAndGetClaims(String secretKey, String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(doGetSignKey(secretKey))
-                .build()
+        return doGetSigningContext(secretKey).parser()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private SecretKey doGetSignKey(String secretKey) {
-        return hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+    private SigningContext doGetSigningContext(String secretKey) {
+        return signingContexts.computeIfAbsent(secretKey, key -> {
+            SecretKey signKey = hmacShaKeyFor(Decoders.BASE64.decode(key));
+            return new SigningContext(signKey, Jwts.parserBuilder().setSigningKey(signKey).build());
+        });
+    }
+
+    private String doGetCacheKey(String secretKey, String token) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(secretKey.getBytes(UTF_8));
+        digest.update(token.getBytes(UTF_8));
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private record SigningContext(SecretKey key, JwtParser parser) {
+    }
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return expiresAtMillis <= System.currentTimeMillis();
+        }
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Math.max(0, value.expiresAtMillis() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
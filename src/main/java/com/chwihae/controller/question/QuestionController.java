@@ -10,6 +10,7 @@ import com.chwihae.domain.question.QuestionType;
 import com.chwihae.dto.comment.Comment;
 import com.chwihae.dto.comment.request.QuestionCommentRequest;
 import com.chwihae.dto.common.response.BooleanResponse;
+import com.chwihae.dto.common.response.CursorSliceResponse;
 import com.chwihae.dto.common.response.IdResponse;
 import com.chwihae.dto.option.response.VoteOptionResponse;
 import com.chwihae.dto.question.request.QuestionCreateRequest;
@@ -24,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.validation.BindException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -35,6 +37,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
@@ -55,6 +58,15 @@ public class QuestionController {
         return ApiResponse.ok(questionService.getQuestionsByTypeAndStatus(type, status, pageable));
     }
 
+    @GetMapping("/cursor")
+    public ApiResponse<CursorSliceResponse<QuestionListResponse>> getQuestionsByCursor(
+            @RequestParam(value = "type", required = false) QuestionType type,
+            @RequestParam(value = "status", required = false) QuestionStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ApiResponse.ok(questionService.getQuestionsByTypeAndStatusAfterCursor(type, status, cursor, size));
+    }
+
     @PostMapping
     public ApiResponse<IdResponse> createQuestion(@RequestBody @Validated QuestionCreateRequest request,
                                                   @CurrentUser UserContext userContext) throws BindException {
@@ -81,6 +93,12 @@ public class QuestionController {
         return ApiResponse.ok(voteService.getVoteOptions(questionId, userContext.getId()));
     }
 
+    @GetMapping(value = "/{questionId}/options/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOptions(@PathVariable Long questionId,
+                                    @CurrentUser UserContext userContext) {
+        return voteService.subscribeVoteResults(questionId, userContext.getId());
+    }
+
     @PostMapping("/{questionId}/bookmark")
     public ApiResponse<BooleanResponse> bookmark(@PathVariable Long questionId,
                                                  @CurrentUser UserContext userContext) {
@@ -94,6 +112,14 @@ public class QuestionController {
         return ApiResponse.ok(commentService.getComments(questionId, userContext.getId(), pageable));
     }
 
+    @GetMapping("/{questionId}/comments/cursor")
+    public ApiResponse<CursorSliceResponse<Comment>> getCommentsByCursor(@PathVariable Long questionId,
+                                                                         @CurrentUser UserContext userContext,
+                                                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                                                         @RequestParam(value = "size", defaultValue = "10") int size) {
+        return ApiResponse.ok(commentService.getCommentsAfterCursor(questionId, userContext.getId(), cursor, size));
+    }
+
     @PostMapping("/{questionId}/comments")
     public ApiResponse<VoteOptionResponse> createComment(@PathVariable Long questionId,
                                                          @RequestBody @Validated QuestionCommentRequest request,
@@ -12,8 +12,6 @@ import java.util.Optional;
 @Repository
 public interface BookmarkRepository extends JpaRepository<BookmarkEntity, Long> {
 
-    int countByQuestionEntityId(Long questionId);
-
     boolean existsByQuestionEntityIdAndUserEntityId(Long questionId, Long userId);
 
     Optional<BookmarkEntity> findByQuestionEntityIdAndUserEntityId(Long questionId, Long userId);
@@ -23,6 +23,7 @@ import static jakarta.persistence.FetchType.LAZY;
                 @Index(name = "idx_comment_question", columnList = "id_question"),
                 @Index(name = "idx_comment_commenter", columnList = "id_commenter"),
                 @Index(name = "idx_comment_commenter_question", columnList = "id_question, id_commenter"),
+                @Index(name = "idx_comment_question_created_at_id", columnList = "id_question, created_at, id_comment"),
         }
 )
 @SQLDelete(sql = "UPDATE comment SET deleted_at = NOW() WHERE id_comment = ?")
@@ -66,6 +67,10 @@ public class CommentEntity extends BaseEntity {
         this.content = content;
     }
 
+    public Long getQuestionId() {
+        return this.questionEntity.getId();
+    }
+
     public String getAlias() {
         return Objects.nonNull(this.commenterAliasEntity) ? this.commenterAliasEntity.getAlias() : null;
     }
@@ -10,15 +10,17 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
-
-    int countByQuestionEntityId(Long questionId);
+public interface CommentRepository extends JpaRepository<CommentEntity, Long>, CommentRepositoryExtension {
 
     int countByUserEntityId(Long userId);
 
+    @Query("SELECT DISTINCT ce.userEntity.id FROM CommentEntity ce WHERE ce.questionEntity.id = :questionId")
+    List<Long> findCommenterIdsByQuestionId(@Param("questionId") Long questionId);
+
     @Query(value = "SELECT * " +
             "FROM comment c " +
             "WHERE c.id_question = :questionId AND c.id_commenter = :userId " +
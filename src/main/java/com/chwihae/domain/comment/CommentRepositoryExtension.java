@@ -0,0 +1,12 @@
+package com.chwihae.domain.comment;
+
+import com.chwihae.dto.comment.Comment;
+import com.chwihae.dto.common.request.Cursor;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+public interface CommentRepositoryExtension {
+
+    Slice<Comment> findByQuestionIdAfterCursor(Long questionId, Long userId, Cursor cursor, int size);
+}
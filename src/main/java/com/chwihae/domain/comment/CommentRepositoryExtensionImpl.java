@@ -0,0 +1,67 @@
+package com.chwihae.domain.comment;
+
+import com.chwihae.dto.comment.Comment;
+import com.chwihae.dto.common.request.Cursor;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.chwihae.domain.comment.QCommentEntity.commentEntity;
+import static com.chwihae.domain.commenter.QCommenterAliasEntity.commenterAliasEntity;
+
+public class CommentRepositoryExtensionImpl extends QuerydslRepositorySupport implements CommentRepositoryExtension {
+
+    public CommentRepositoryExtensionImpl() {
+        super(CommentEntity.class);
+    }
+
+    // (id_question, created_at, id_comment) 인덱스를 따라 커서 이후의 댓글만 읽고 전체 개수는 세지 않는다
+    @Override
+    public Slice<Comment> findByQuestionIdAfterCursor(Long questionId, Long userId, Cursor cursor, int size) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(getEntityManager());
+        BooleanBuilder conditions = new BooleanBuilder(commentEntity.questionEntity.id.eq(questionId));
+        if (Objects.nonNull(cursor)) {
+            conditions.and(commentEntity.createdAt.gt(cursor.getCreatedAt())
+                    .or(commentEntity.createdAt.eq(cursor.getCreatedAt()).and(commentEntity.id.gt(cursor.getId()))));
+        }
+        List<Tuple> tuples = queryFactory
+                .select(commentEntity.id,
+                        commentEntity.content,
+                        commentEntity.createdAt,
+                        commentEntity.userEntity.id,
+                        commenterAliasEntity.alias)
+                .from(commentEntity)
+                .join(commentEntity.commenterAliasEntity, commenterAliasEntity)
+                .where(conditions)
+                .orderBy(commentEntity.createdAt.asc(), commentEntity.id.asc())
+                .limit(size + 1L)
+                .fetch();
+        List<Comment> comments = tuples.stream()
+                .map(it -> transformTupleToDTO(it, userId))
+                .toList();
+        return toSlice(comments, size);
+    }
+
+    private Comment transformTupleToDTO(Tuple tuple, Long userId) {
+        return Comment.builder()
+                .id(tuple.get(commentEntity.id))
+                .content(tuple.get(commentEntity.content))
+                .createdAt(tuple.get(commentEntity.createdAt))
+                .commenterAlias(tuple.get(commenterAliasEntity.alias))
+                .editable(Objects.equals(tuple.get(commentEntity.userEntity.id), userId))
+                .build();
+    }
+
+    private <T> Slice<T> toSlice(List<T> content, int size) {
+        boolean hasNext = content.size() > size;
+        List<T> sliced = hasNext ? content.subList(0, size) : content;
+        return new SliceImpl<>(sliced, PageRequest.ofSize(size), hasNext);
+    }
+}
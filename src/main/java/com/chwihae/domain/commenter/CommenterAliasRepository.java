@@ -7,8 +7,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Repository
 public interface CommenterAliasRepository extends JpaRepository<CommenterAliasEntity, Long> {
+    // uk_commenter_alias_question_commeter 유니크 인덱스로 조회한다
+    Optional<CommenterAliasEntity> findByQuestionEntityIdAndUserEntityId(Long questionId, Long userId);
+
     @Transactional
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(value = "DELETE FROM commenter_alias", nativeQuery = true)
@@ -1,27 +1,24 @@
 package com.chwihae.domain.commenter;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
-
 @Repository
 public interface CommenterSequenceRepository extends JpaRepository<CommenterSequenceEntity, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<CommenterSequenceEntity> findForUpdateByQuestionEntityId(Long questionId);
+    // 잠금 조회 없이 한 번의 UPDATE 로 순서를 증가시키고, 증가된 값은 같은 커넥션의 LAST_INSERT_ID() 로 읽는다
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE commenter_sequence " +
+            "SET sequence = LAST_INSERT_ID(sequence + 1) " +
+            "WHERE id_question = :questionId AND deleted_at IS NULL", nativeQuery = true)
+    int incrementSequenceByQuestionId(@Param("questionId") Long questionId);
 
-    @Modifying
-    @Query("UPDATE CommenterSequenceEntity cse " +
-            "SET cse.sequence = cse.sequence+1 " +
-            "WHERE cse.questionEntity.id = :questionId")
-    void updateSequenceByQuestionEntityId(@Param("questionId") Long questionId);
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long findLastInsertId();
 
     @Transactional
     @Modifying(flushAutomatically = true, clearAutomatically = true)
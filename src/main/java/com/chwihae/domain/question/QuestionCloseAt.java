@@ -0,0 +1,9 @@
+package com.chwihae.domain.question;
+
+import java.time.LocalDateTime;
+
+public interface QuestionCloseAt {
+    Long getId();
+
+    LocalDateTime getCloseAt();
+}
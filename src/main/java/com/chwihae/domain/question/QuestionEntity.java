@@ -28,7 +28,9 @@ import static jakarta.persistence.EnumType.STRING;
                 @Index(name = "idx_question_close_at", columnList = "close_at"),
                 @Index(name = "idx_question_deleted_at", columnList = "deleted_at"),
                 @Index(name = "idx_question_close_at_deleted_at", columnList = "close_at, deleted_at"),
-                @Index(name = "idx_question_status_close_at", columnList = "status, close_at")
+                @Index(name = "idx_question_status_close_at", columnList = "status, close_at"),
+                @Index(name = "idx_question_created_at_id", columnList = "created_at, id_question"),
+                @Index(name = "idx_question_type_status_created_at_id", columnList = "type, status, created_at, id_question")
         }
 )
 @SQLDelete(sql = "UPDATE question SET deleted_at = NOW() WHERE id_question = ?")
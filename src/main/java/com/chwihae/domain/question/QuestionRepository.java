@@ -3,10 +3,12 @@ package com.chwihae.domain.question;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface QuestionRepository extends JpaRepository<QuestionEntity, Long>, QuestionRepositoryExtension {
@@ -17,6 +19,17 @@ public interface QuestionRepository extends JpaRepository<QuestionEntity, Long>,
             "WHERE qe.closeAt < :now AND qe.status = com.chwihae.domain.question.QuestionStatus.IN_PROGRESS)")
     boolean existsByCloseAtBefore(LocalDateTime now);
 
+    List<QuestionCloseAt> findByStatusAndCloseAtBefore(QuestionStatus status, LocalDateTime closeAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE QuestionEntity qe " +
+            "SET qe.status = com.chwihae.domain.question.QuestionStatus.COMPLETED " +
+            "WHERE qe.id IN :questionIds " +
+            "AND qe.status = com.chwihae.domain.question.QuestionStatus.IN_PROGRESS " +
+            "AND qe.closeAt <= :now")
+    int closeAllByIdIn(@Param("questionIds") List<Long> questionIds, @Param("now") LocalDateTime now);
+
     @Transactional
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query(value = "DELETE FROM question", nativeQuery = true)
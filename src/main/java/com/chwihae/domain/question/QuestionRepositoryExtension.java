@@ -1,15 +1,24 @@
 package com.chwihae.domain.question;
 
+import com.chwihae.dto.common.request.Cursor;
+import com.chwihae.dto.question.response.QuestionDetailResponse;
 import com.chwihae.dto.question.response.QuestionListResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Transactional(readOnly = true)
 public interface QuestionRepositoryExtension {
 
+    Optional<QuestionDetailResponse> findDetailById(Long questionId, Long userId);
+
     Page<QuestionListResponse> findByTypeAndStatusWithCounts(QuestionStatus status, QuestionType type, Pageable pageable);
 
+    Slice<QuestionListResponse> findByTypeAndStatusWithCountsAfterCursor(QuestionStatus status, QuestionType type, Cursor cursor, int size);
+
     Page<QuestionListResponse> findMyByUserIdWithCounts(Long userId, Pageable pageable);
 
     Page<QuestionListResponse> findBookmarkedByUserIdWithCounts(Long userId, Pageable pageable);
@@ -1,27 +1,35 @@
 package com.chwihae.domain.question;
 
+import com.chwihae.dto.common.request.Cursor;
+import com.chwihae.dto.question.response.QuestionDetailResponse;
 import com.chwihae.dto.question.response.QuestionListResponse;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import static com.chwihae.domain.bookmark.QBookmarkEntity.bookmarkEntity;
-import static com.chwihae.domain.comment.QCommentEntity.commentEntity;
 import static com.chwihae.domain.question.QQuestionEntity.questionEntity;
+import static com.chwihae.domain.question.QQuestionStatsEntity.questionStatsEntity;
 import static com.chwihae.domain.user.QUserEntity.userEntity;
 import static com.chwihae.domain.vote.QVoteEntity.voteEntity;
 
@@ -31,6 +39,34 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
         super(QuestionEntity.class);
     }
 
+    @Override
+    public Optional<QuestionDetailResponse> findDetailById(Long questionId, Long userId) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(getEntityManager());
+        BooleanExpression bookmarked = JPAExpressions.selectOne()
+                .from(bookmarkEntity)
+                .where(bookmarkEntity.questionEntity.id.eq(questionEntity.id)
+                        .and(bookmarkEntity.userEntity.id.eq(userId))
+                        .and(bookmarkEntity.deletedAt.isNull()))
+                .exists();
+        Tuple tuple = queryFactory
+                .select(questionEntity.id,
+                        questionEntity.title,
+                        questionEntity.content,
+                        questionEntity.type,
+                        questionEntity.closeAt,
+                        questionEntity.status,
+                        questionEntity.userEntity.id,
+                        questionStatsEntity.bookmarkCount,
+                        questionStatsEntity.commentCount,
+                        questionStatsEntity.voteCount,
+                        new CaseBuilder().when(bookmarked).then(true).otherwise(false))
+                .from(questionEntity)
+                .leftJoin(questionStatsEntity).on(questionStatsEntity.questionEntity.id.eq(questionEntity.id))
+                .where(questionEntity.id.eq(questionId))
+                .fetchOne();
+        return Optional.ofNullable(tuple).map(it -> transformTupleToDetailDTO(it, userId));
+    }
+
     @Override
     public Page<QuestionListResponse> findByTypeAndStatusWithCounts(QuestionStatus status, QuestionType type, Pageable pageable) {
         List<Tuple> tuples = fetchTuplesByTypeAndStatus(status, type, pageable);
@@ -39,6 +75,13 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
         return new PageImpl<>(questionListResponses, pageable, totalCount);
     }
 
+    @Override
+    public Slice<QuestionListResponse> findByTypeAndStatusWithCountsAfterCursor(QuestionStatus status, QuestionType type, Cursor cursor, int size) {
+        List<Tuple> tuples = fetchTuplesByTypeAndStatusAfterCursor(status, type, cursor, size);
+        List<QuestionListResponse> questionListResponses = transformTuplesToDTOs(tuples);
+        return toSlice(questionListResponses, size);
+    }
+
     @Override
     public Page<QuestionListResponse> findMyByUserIdWithCounts(Long userId, Pageable pageable) {
         List<Tuple> tuples = fetchMyTuplesByUserId(userId, pageable);
@@ -67,8 +110,9 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
         JPAQueryFactory queryFactory = new JPAQueryFactory(getEntityManager());
         BooleanBuilder conditions = baseConditions(status, type);
         return queryFactory
-                .select(questionEntity, commentCountSubQuery(), bookmarkCountSubQuery())
+                .select(questionEntity, questionStatsEntity.commentCount, questionStatsEntity.bookmarkCount)
                 .from(questionEntity)
+                .leftJoin(questionStatsEntity).on(questionStatsEntity.questionEntity.id.eq(questionEntity.id))
                 .where(conditions)
                 .orderBy(getOrderSpecifiers(pageable.getSort()))
                 .offset(pageable.getOffset())
@@ -76,11 +120,26 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
                 .fetch();
     }
 
+    private List<Tuple> fetchTuplesByTypeAndStatusAfterCursor(QuestionStatus status, QuestionType type, Cursor cursor, int size) {
+        JPAQueryFactory queryFactory = new JPAQueryFactory(getEntityManager());
+        BooleanBuilder conditions = baseConditions(status, type);
+        appendCursorCondition(conditions, Optional.ofNullable(cursor));
+        return queryFactory
+                .select(questionEntity, questionStatsEntity.commentCount, questionStatsEntity.bookmarkCount)
+                .from(questionEntity)
+                .leftJoin(questionStatsEntity).on(questionStatsEntity.questionEntity.id.eq(questionEntity.id))
+                .where(conditions)
+                .orderBy(questionEntity.createdAt.desc(), questionEntity.id.desc())
+                .limit(size + 1L) // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+                .fetch();
+    }
+
     private List<Tuple> fetchMyTuplesByUserId(Long userId, Pageable pageable) {
         JPAQueryFactory queryFactory = new JPAQueryFactory(getEntityManager());
         return queryFactory
-                .select(questionEntity, commentCountSubQuery(), bookmarkCountSubQuery())
+                .select(questionEntity, questionStatsEntity.commentCount, questionStatsEntity.bookmarkCount)
                 .from(questionEntity)
+                .leftJoin(questionStatsEntity).on(questionStatsEntity.questionEntity.id.eq(questionEntity.id))
                 .join(questionEntity.userEntity, userEntity)
                 .where(questionEntity.deletedAt.isNull().and(questionEntity.userEntity.id.eq(userId)))
                 .orderBy(getOrderSpecifiers(pageable.getSort()))
@@ -92,8 +151,9 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
     private List<Tuple> fetchVotedTuplesByUserId(Long userId, Pageable pageable) {
         JPAQueryFactory queryFactory = new JPAQueryFactory(getEntityManager());
         return queryFactory
-                .select(questionEntity, commentCountSubQuery(), bookmarkCountSubQuery())
+                .select(questionEntity, questionStatsEntity.commentCount, questionStatsEntity.bookmarkCount)
                 .from(questionEntity)
+                .leftJoin(questionStatsEntity).on(questionStatsEntity.questionEntity.id.eq(questionEntity.id))
                 .join(voteEntity).on(voteEntity.questionEntity.id.eq(questionEntity.id))
                 .where(voteEntity.valid.eq(true).and(voteEntity.userEntity.id.eq(userId)))
                 .orderBy(getOrderSpecifiers(pageable.getSort()))
@@ -105,8 +165,9 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
     private List<Tuple> fetchBookmarkedTuplesByUserId(Long userId, Pageable pageable) {
         JPAQueryFactory queryFactory = new JPAQueryFactory(getEntityManager());
         return queryFactory
-                .select(questionEntity, commentCountSubQuery(), bookmarkCountSubQuery())
+                .select(questionEntity, questionStatsEntity.commentCount, questionStatsEntity.bookmarkCount)
                 .from(questionEntity)
+                .leftJoin(questionStatsEntity).on(questionStatsEntity.questionEntity.id.eq(questionEntity.id))
                 .join(bookmarkEntity).on(bookmarkEntity.questionEntity.id.eq(questionEntity.id))
                 .where(bookmarkEntity.deletedAt.isNull().and(bookmarkEntity.userEntity.id.eq(userId)))
                 .orderBy(getOrderSpecifiers(pageable.getSort()))
@@ -139,25 +200,41 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
                 .fetchCount();
     }
 
-    private JPQLQuery<Long> commentCountSubQuery() {
-        return JPAExpressions.select(commentEntity.count())
-                .from(commentEntity)
-                .where(commentEntity.questionEntity.id.eq(questionEntity.id));
+    static List<QuestionListResponse> transformTuplesToDTOs(List<Tuple> results) {
+        List<QuestionListResponse> responses = new ArrayList<>(results.size());
+        for (Tuple tuple : results) {
+            responses.add(QuestionListResponse.of(
+                    tuple.get(questionEntity),
+                    countOrZero(tuple.get(questionStatsEntity.commentCount)),
+                    countOrZero(tuple.get(questionStatsEntity.bookmarkCount))));
+        }
+        return responses;
     }
 
-    private JPQLQuery<Long> bookmarkCountSubQuery() {
-        return JPAExpressions.select(bookmarkEntity.count())
-                .from(bookmarkEntity)
-                .where(bookmarkEntity.questionEntity.id.eq(questionEntity.id));
+    private static long countOrZero(Integer count) {
+        return count == null ? 0 : count;
+    }
+
+    private QuestionDetailResponse transformTupleToDetailDTO(Tuple tuple, Long userId) {
+        return QuestionDetailResponse.builder()
+                .id(tuple.get(questionEntity.id))
+                .title(tuple.get(questionEntity.title))
+                .content(tuple.get(questionEntity.content))
+                .type(tuple.get(questionEntity.type))
+                .closeAt(tuple.get(questionEntity.closeAt))
+                .status(tuple.get(questionEntity.status))
+                .bookmarkCount(Optional.ofNullable(tuple.get(questionStatsEntity.bookmarkCount)).orElse(0))
+                .commentCount(Optional.ofNullable(tuple.get(questionStatsEntity.commentCount)).orElse(0))
+                .voteCount(Optional.ofNullable(tuple.get(questionStatsEntity.voteCount)).orElse(0))
+                .bookmarked(Boolean.TRUE.equals(tuple.get(10, Boolean.class)))
+                .editable(Objects.equals(tuple.get(questionEntity.userEntity.id), userId))
+                .build();
     }
 
-    private List<QuestionListResponse> transformTuplesToDTOs(List<Tuple> results) {
-        return results.stream()
-                .map(tuple -> QuestionListResponse.of(
-                        tuple.get(questionEntity),
-                        Optional.ofNullable(tuple.get(1, Long.class)).orElse(0L),
-                        Optional.ofNullable(tuple.get(2, Long.class)).orElse(0L)))
-                .toList();
+    private <T> Slice<T> toSlice(List<T> content, int size) {
+        boolean hasNext = content.size() > size;
+        List<T> sliced = hasNext ? content.subList(0, size) : content;
+        return new SliceImpl<>(sliced, PageRequest.ofSize(size), hasNext);
     }
 
     private long countQuestions(QuestionStatus status, QuestionType type) {
@@ -191,4 +268,11 @@ public class QuestionRepositoryExtensionImpl extends QuerydslRepositorySupport i
     private void appendStatusCondition(BooleanBuilder conditions, Optional<QuestionStatus> status) {
         status.ifPresent(it -> conditions.and(questionEntity.status.eq(it)));
     }
+
+    private void appendCursorCondition(BooleanBuilder conditions, Optional<Cursor> cursor) {
+        cursor.ifPresent(it -> conditions.and(
+                questionEntity.createdAt.lt(it.getCreatedAt())
+                        .or(questionEntity.createdAt.eq(it.getCreatedAt()).and(questionEntity.id.lt(it.getId())))
+        ));
+    }
 }
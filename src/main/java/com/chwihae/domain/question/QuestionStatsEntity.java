@@ -0,0 +1,51 @@
+package com.chwihae.domain.question;
+
+import com.chwihae.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.Where;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "question_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_question_stats_question", columnNames = "id_question")
+        }
+)
+@SQLDelete(sql = "UPDATE question_stats SET deleted_at = NOW() WHERE id_question_stats = ?")
+@Where(clause = "deleted_at is NULL")
+@Entity
+public class QuestionStatsEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_question_stats", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "vote_count", nullable = false, columnDefinition = "int COMMENT '질문 투표 수'")
+    private int voteCount = 0;
+
+    @Column(name = "comment_count", nullable = false, columnDefinition = "int COMMENT '질문 댓글 수'")
+    private int commentCount = 0;
+
+    @Column(name = "bookmark_count", nullable = false, columnDefinition = "int COMMENT '질문 저장 수'")
+    private int bookmarkCount = 0;
+
+    @Column(name = "view_count", nullable = false, columnDefinition = "int COMMENT '질문 조회 수'")
+    private int viewCount = 0;
+
+    @OneToOne(fetch = LAZY)
+    @JoinColumn(name = "id_question", nullable = false, foreignKey = @ForeignKey(name = "fk_question_stats_question"), columnDefinition = "bigint COMMENT '질문 PK'")
+    private QuestionEntity questionEntity;
+
+    @Builder
+    private QuestionStatsEntity(QuestionEntity questionEntity) {
+        this.questionEntity = questionEntity;
+    }
+}
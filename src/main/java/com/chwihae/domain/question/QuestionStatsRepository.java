@@ -0,0 +1,64 @@
+package com.chwihae.domain.question;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface QuestionStatsRepository extends JpaRepository<QuestionStatsEntity, Long> {
+
+    Optional<QuestionStatsEntity> findByQuestionEntityId(Long questionId);
+
+    @Modifying
+    @Query("UPDATE QuestionStatsEntity qse " +
+            "SET qse.voteCount = qse.voteCount + 1 " +
+            "WHERE qse.questionEntity.id = :questionId")
+    void increaseVoteCount(@Param("questionId") Long questionId);
+
+    @Modifying
+    @Query("UPDATE QuestionStatsEntity qse " +
+            "SET qse.voteCount = qse.voteCount - 1 " +
+            "WHERE qse.questionEntity.id = :questionId AND qse.voteCount > 0")
+    void decreaseVoteCount(@Param("questionId") Long questionId);
+
+    @Modifying
+    @Query("UPDATE QuestionStatsEntity qse " +
+            "SET qse.commentCount = qse.commentCount + 1 " +
+            "WHERE qse.questionEntity.id = :questionId")
+    void increaseCommentCount(@Param("questionId") Long questionId);
+
+    @Modifying
+    @Query("UPDATE QuestionStatsEntity qse " +
+            "SET qse.commentCount = qse.commentCount - 1 " +
+            "WHERE qse.questionEntity.id = :questionId AND qse.commentCount > 0")
+    void decreaseCommentCount(@Param("questionId") Long questionId);
+
+    @Modifying
+    @Query("UPDATE QuestionStatsEntity qse " +
+            "SET qse.bookmarkCount = qse.bookmarkCount + 1 " +
+            "WHERE qse.questionEntity.id = :questionId")
+    void increaseBookmarkCount(@Param("questionId") Long questionId);
+
+    @Modifying
+    @Query("UPDATE QuestionStatsEntity qse " +
+            "SET qse.bookmarkCount = qse.bookmarkCount - 1 " +
+            "WHERE qse.questionEntity.id = :questionId AND qse.bookmarkCount > 0")
+    void decreaseBookmarkCount(@Param("questionId") Long questionId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE QuestionStatsEntity qse " +
+            "SET qse.deletedAt = NOW() " +
+            "WHERE qse.questionEntity.id = :questionId")
+    void deleteAllByQuestionId(@Param("questionId") Long questionId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM question_stats", nativeQuery = true)
+    void physicallyDeleteAll();
+}
@@ -3,8 +3,6 @@ package com.chwihae.domain.user;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Arrays;
-
 @RequiredArgsConstructor
 @Getter
 public enum UserLevel {
@@ -16,10 +14,20 @@ public enum UserLevel {
     private final long voteCount;
     private final long commentCount;
 
+    // values() 는 호출마다 배열을 복사하므로 한 번만 만들어 둔다
+    private static final UserLevel[] LEVELS = values();
+
     public static UserLevel getLevel(long voteCount, long commentCount) {
-        return Arrays.stream(UserLevel.values())
-                .filter(level -> (voteCount >= level.voteCount) && (commentCount >= level.commentCount))
-                .findFirst()
-                .orElse(BACHELOR);
+        for (UserLevel level : LEVELS) {
+            if ((voteCount >= level.voteCount) && (commentCount >= level.commentCount)) {
+                return level;
+            }
+        }
+        return BACHELOR;
+    }
+
+    // 높은 레벨일수록 먼저 선언되어 있다
+    public boolean isHigherThan(UserLevel other) {
+        return this.ordinal() < other.ordinal();
     }
 }
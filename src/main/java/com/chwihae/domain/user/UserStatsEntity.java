@@ -0,0 +1,49 @@
+package com.chwihae.domain.user;
+
+import com.chwihae.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.Where;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "user_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_stats_user", columnNames = "id_user")
+        }
+)
+@SQLDelete(sql = "UPDATE user_stats SET deleted_at = NOW() WHERE id_user_stats = ?")
+@Where(clause = "deleted_at is NULL")
+@Entity
+public class UserStatsEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_user_stats", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "vote_count", nullable = false, columnDefinition = "int COMMENT '사용자 투표 수'")
+    private int voteCount = 0;
+
+    @Column(name = "comment_count", nullable = false, columnDefinition = "int COMMENT '사용자 댓글 수'")
+    private int commentCount = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "level", nullable = false, columnDefinition = "varchar(20) COMMENT '사용자 레벨'")
+    private UserLevel level = UserLevel.BACHELOR;
+
+    @OneToOne(fetch = LAZY)
+    @JoinColumn(name = "id_user", nullable = false, foreignKey = @ForeignKey(name = "fk_user_stats_users"), columnDefinition = "bigint COMMENT '사용자 PK'")
+    private UserEntity userEntity;
+
+    @Builder
+    private UserStatsEntity(UserEntity userEntity) {
+        this.userEntity = userEntity;
+    }
+}
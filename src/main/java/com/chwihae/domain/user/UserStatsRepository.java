@@ -0,0 +1,76 @@
+package com.chwihae.domain.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStatsEntity, Long> {
+
+    // 영속성 컨텍스트를 거치지 않고 갱신된 값을 바로 읽기 위해 프로젝션으로 조회한다
+    @Query("SELECT us.userEntity.id AS userId, us.voteCount AS voteCount, us.commentCount AS commentCount, us.level AS level " +
+            "FROM UserStatsEntity us " +
+            "WHERE us.userEntity.id = :userId")
+    Optional<UserStatsSnapshot> findSnapshotByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT us.userEntity.id AS userId, us.voteCount AS voteCount, us.commentCount AS commentCount, us.level AS level " +
+            "FROM UserStatsEntity us " +
+            "WHERE us.userEntity.id IN :userIds")
+    List<UserStatsSnapshot> findSnapshotsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 기존 사용자처럼 통계 행이 없으면 실제 투표 수와 댓글 수로 만든다
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO user_stats (id_user, vote_count, comment_count, level) " +
+            "SELECT :userId, " +
+            "(SELECT COUNT(*) FROM vote v WHERE v.id_voter = :userId AND v.deleted_at IS NULL AND v.valid = 1), " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.id_commenter = :userId AND c.deleted_at IS NULL), " +
+            "'BACHELOR'", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO user_stats (id_user, vote_count, comment_count, level) " +
+            "SELECT u.id_users, " +
+            "(SELECT COUNT(*) FROM vote v WHERE v.id_voter = u.id_users AND v.deleted_at IS NULL AND v.valid = 1), " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.id_commenter = u.id_users AND c.deleted_at IS NULL), " +
+            "'BACHELOR' " +
+            "FROM users u WHERE u.id_users IN (:userIds)", nativeQuery = true)
+    int insertAllIfAbsent(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_stats us " +
+            "SET us.vote_count = (SELECT COUNT(*) FROM vote v WHERE v.id_voter = us.id_user AND v.deleted_at IS NULL AND v.valid = 1), " +
+            "us.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.id_commenter = us.id_user AND c.deleted_at IS NULL) " +
+            "WHERE us.id_user IN (:userIds) AND us.deleted_at IS NULL", nativeQuery = true)
+    int syncAllCounts(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserStatsEntity us " +
+            "SET us.voteCount = us.voteCount + :delta " +
+            "WHERE us.userEntity.id = :userId AND us.voteCount + :delta >= 0")
+    int addVoteCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserStatsEntity us " +
+            "SET us.commentCount = us.commentCount + :delta " +
+            "WHERE us.userEntity.id = :userId AND us.commentCount + :delta >= 0")
+    int addCommentCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 동시에 여러 요청이 레벨을 바꾸더라도 실제로 값을 바꾼 요청만 1 을 반환한다
+    @Modifying
+    @Query("UPDATE UserStatsEntity us " +
+            "SET us.level = :level " +
+            "WHERE us.userEntity.id = :userId AND us.level <> :level")
+    int updateLevel(@Param("userId") Long userId, @Param("level") UserLevel level);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM user_stats", nativeQuery = true)
+    void physicallyDeleteAll();
+}
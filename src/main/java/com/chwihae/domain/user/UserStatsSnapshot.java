@@ -0,0 +1,12 @@
+package com.chwihae.domain.user;
+
+public interface UserStatsSnapshot {
+
+    Long getUserId();
+
+    int getVoteCount();
+
+    int getCommentCount();
+
+    UserLevel getLevel();
+}
@@ -0,0 +1,11 @@
+package com.chwihae.domain.vote;
+
+import java.time.LocalDateTime;
+
+public interface QuestionVoteContext {
+    LocalDateTime getCloseAt();
+
+    Long getQuestionerId();
+
+    Long getVotedOptionId();
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static jakarta.persistence.LockModeType.PESSIMISTIC_WRITE;
@@ -18,10 +19,18 @@ public interface VoteRepository extends JpaRepository<VoteEntity, Long> {
 
     int countByUserEntityId(Long userId);
 
-    int countByQuestionEntityId(Long questionId);
-
     Optional<VoteEntity> findByQuestionEntityIdAndUserEntityId(Long questionId, Long userId);
 
+    @Query("SELECT qe.closeAt AS closeAt, qe.userEntity.id AS questionerId, ve.optionEntity.id AS votedOptionId " +
+            "FROM QuestionEntity qe " +
+            "LEFT JOIN VoteEntity ve ON ve.questionEntity.id = qe.id AND ve.userEntity.id = :userId " +
+            "AND ve.deletedAt IS NULL AND ve.valid = true " +
+            "WHERE qe.id = :questionId")
+    Optional<QuestionVoteContext> findVoteContext(@Param("questionId") Long questionId, @Param("userId") Long userId);
+
+    @Query("SELECT ve.userEntity.id FROM VoteEntity ve WHERE ve.questionEntity.id = :questionId")
+    List<Long> findVoterIdsByQuestionId(@Param("questionId") Long questionId);
+
     @Lock(PESSIMISTIC_WRITE)
     Optional<VoteEntity> findForUpdateByQuestionEntityIdAndOptionEntityIdAndUserEntityId(Long questionId, Long optionId, Long userId);
 
@@ -0,0 +1,49 @@
+package com.chwihae.dto.common.request;
+
+import com.chwihae.exception.CustomException;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+import static com.chwihae.exception.CustomExceptionError.INVALID_ARGUMENT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Getter
+public class Cursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private Cursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        // created_at 컬럼은 초 단위까지만 저장되므로 커서도 같은 정밀도로 맞춘다
+        return new Cursor(createdAt.truncatedTo(ChronoUnit.SECONDS), id);
+    }
+
+    public static Cursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), UTF_8);
+            String[] tokens = decoded.split(DELIMITER);
+            if (tokens.length != 2) {
+                throw new CustomException(INVALID_ARGUMENT, "유효하지 않은 커서입니다");
+            }
+            return new Cursor(LocalDateTime.parse(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new CustomException(INVALID_ARGUMENT, "유효하지 않은 커서입니다");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package com.chwihae.dto.common.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class CursorSliceResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorSliceResponse<T> of(Slice<T> slice, String nextCursor) {
+        return CursorSliceResponse.<T>builder()
+                .content(slice.getContent())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Builder
+    private CursorSliceResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
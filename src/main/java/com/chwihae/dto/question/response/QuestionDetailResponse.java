@@ -1,6 +1,5 @@
 package com.chwihae.dto.question.response;
 
-import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.question.QuestionStatus;
 import com.chwihae.domain.question.QuestionType;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -30,29 +29,6 @@ public class QuestionDetailResponse {
     private boolean bookmarked;
     private boolean editable;
 
-    public static QuestionDetailResponse of(QuestionEntity questionEntity,
-                                            long viewCount,
-                                            int bookmarkCount,
-                                            int commentCount,
-                                            int voteCount,
-                                            boolean bookmarked,
-                                            boolean editable) {
-        return QuestionDetailResponse.builder()
-                .id(questionEntity.getId())
-                .title(questionEntity.getTitle())
-                .content(questionEntity.getContent())
-                .type(questionEntity.getType())
-                .closeAt(questionEntity.getCloseAt())
-                .status(questionEntity.getStatus())
-                .viewCount(viewCount)
-                .bookmarkCount(bookmarkCount)
-                .commentCount(commentCount)
-                .voteCount(voteCount)
-                .bookmarked(bookmarked)
-                .editable(editable)
-                .build();
-    }
-
     @Builder
     private QuestionDetailResponse(Long id,
                                    String title,
@@ -3,11 +3,14 @@ package com.chwihae.dto.question.response;
 import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.question.QuestionStatus;
 import com.chwihae.domain.question.QuestionType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @NoArgsConstructor
 @Getter
 @Setter
@@ -20,6 +23,8 @@ public class QuestionListResponse {
     private long viewCount;
     private long commentCount;
     private long bookmarkCount;
+    @JsonIgnore
+    private LocalDateTime createdAt;
 
     public static QuestionListResponse of(QuestionEntity questionEntity,
                                           long commentCount,
@@ -31,6 +36,7 @@ public class QuestionListResponse {
                 .type(questionEntity.getType())
                 .commentCount(commentCount)
                 .bookmarkCount(bookmarkCount)
+                .createdAt(questionEntity.getCreatedAt())
                 .build();
     }
 
@@ -40,12 +46,14 @@ public class QuestionListResponse {
                                  QuestionType type,
                                  QuestionStatus status,
                                  long commentCount,
-                                 long bookmarkCount) {
+                                 long bookmarkCount,
+                                 LocalDateTime createdAt) {
         this.id = id;
         this.title = title;
         this.type = type;
         this.status = status;
         this.commentCount = commentCount;
         this.bookmarkCount = bookmarkCount;
+        this.createdAt = createdAt;
     }
 }
@@ -0,0 +1,135 @@
+package com.chwihae.event.question;
+
+import com.chwihae.service.question.core.QuestionViewService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class QuestionViewCountBuffer {
+
+    public static final long FLUSH_INTERVAL_MILLIS = 1000L;
+    public static final long FLUSH_THRESHOLD = 1000L;
+    private final QuestionViewService questionViewService;
+    private final Executor asyncTaskExecutor;
+    private final ConcurrentHashMap<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+    private final LongAdder pendingCount = new LongAdder();
+    private final LongAdder bufferedCount = new LongAdder();
+    private final LongAdder flushedCount = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    public void add(Long questionId) {
+        // drain 이 같은 키를 제거하는 동안 증가분이 유실되지 않도록 compute 안에서 증가시킨다
+        buffer.compute(questionId, (id, adder) -> {
+            LongAdder counter = adder == null ? new LongAdder() : adder;
+            counter.increment();
+            return counter;
+        });
+        bufferedCount.increment();
+        pendingCount.increment();
+        if (pendingCount.sum() >= FLUSH_THRESHOLD) {
+            requestFlush();
+        }
+    }
+
+    // 요청 스레드가 Redis, DB 반영 비용을 치르지 않도록 flush 는 비동기로 실행한다
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            asyncTaskExecutor.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    flushRequested.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 실행기가 가득 차면 다음 주기적 flush 에 맡긴다
+            flushRequested.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            pendingCount.reset();
+            Map<Long, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            flushDeltas(deltas);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public long getBufferedCount() {
+        return bufferedCount.sum();
+    }
+
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    public long getPendingCount() {
+        return buffer.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private void flushDeltas(Map<Long, Long> deltas) {
+        long total = deltas.values().stream().mapToLong(Long::longValue).sum();
+        int questionCount = deltas.size();
+        // 반영된 질문은 pending 에서 제거되므로 실패하면 남은 조회 수만 다음 flush 때 다시 시도한다
+        Map<Long, Long> pending = new HashMap<>(deltas);
+        try {
+            questionViewService.incrementViewCounts(pending);
+            flushedCount.add(total);
+            log.debug("Flushed {} views of {} questions", total, questionCount);
+        } catch (RuntimeException e) {
+            long remaining = pending.values().stream().mapToLong(Long::longValue).sum();
+            flushedCount.add(total - remaining);
+            pending.forEach((questionId, delta) -> buffer.compute(questionId, (id, adder) -> {
+                LongAdder counter = adder == null ? new LongAdder() : adder;
+                counter.add(delta);
+                return counter;
+            }));
+            log.error("Failed to flush {} of {} views ({} questions)", remaining, total, questionCount, e);
+        }
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // add 와 같은 compute 잠금 안에서 값을 읽고 제거하므로 그 사이의 증가분이 유실되지 않는다
+        buffer.keySet().forEach(questionId -> buffer.computeIfPresent(questionId, (id, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+            return null;
+        }));
+        return deltas;
+    }
+}
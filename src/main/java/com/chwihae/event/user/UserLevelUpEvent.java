@@ -0,0 +1,6 @@
+package com.chwihae.event.user;
+
+import com.chwihae.domain.user.UserLevel;
+
+public record UserLevelUpEvent(Long userId, UserLevel previousLevel, UserLevel level) {
+}
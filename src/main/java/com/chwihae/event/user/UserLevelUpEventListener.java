@@ -0,0 +1,16 @@
+package com.chwihae.event.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class UserLevelUpEventListener {
+
+    // 투표나 댓글 트랜잭션이 커밋된 경우에만 레벨 상승을 처리한다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserLevelUpEvent(UserLevelUpEvent event) {
+        log.info("User {} leveled up from {} to {}", event.userId(), event.previousLevel(), event.level());
+    }
+}
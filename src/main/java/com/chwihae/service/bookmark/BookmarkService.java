@@ -6,6 +6,7 @@ import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.user.UserEntity;
 import com.chwihae.exception.CustomException;
 import com.chwihae.exception.CustomExceptionError;
+import com.chwihae.service.question.core.QuestionStatsService;
 import com.chwihae.service.question.query.QuestionQueryService;
 import com.chwihae.service.user.UserService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class BookmarkService {
     private final UserService userService;
     private final QuestionQueryService questionQueryService;
     private final BookmarkRepository bookmarkRepository;
+    private final QuestionStatsService questionStatsService;
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public boolean bookmark(Long questionId, Long userId) {
@@ -39,6 +41,7 @@ public class BookmarkService {
 
     private boolean saveBookmark(UserEntity userEntity, QuestionEntity questionEntity) {
         bookmarkRepository.save(buildBookmark(userEntity, questionEntity));
+        questionStatsService.increaseBookmarkCount(questionEntity.getId());
         return true;
     }
 
@@ -50,6 +53,7 @@ public class BookmarkService {
 
     private boolean deleteBookmark(BookmarkEntity it) {
         bookmarkRepository.delete(it);
+        questionStatsService.decreaseBookmarkCount(it.getQuestionEntity().getId());
         return false;
     }
 
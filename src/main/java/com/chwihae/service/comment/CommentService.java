@@ -6,15 +6,27 @@ import com.chwihae.domain.commenter.*;
 import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.user.UserEntity;
 import com.chwihae.dto.comment.Comment;
+import com.chwihae.dto.common.request.Cursor;
+import com.chwihae.dto.common.response.CursorSliceResponse;
 import com.chwihae.exception.CustomException;
+import com.chwihae.service.commenter.CommenterAliasCache;
+import com.chwihae.service.commenter.CommenterSequenceService;
+import com.chwihae.service.question.core.QuestionStatsService;
 import com.chwihae.service.question.query.QuestionQueryService;
 import com.chwihae.service.user.UserService;
+import com.chwihae.service.user.UserStatsService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.Optional;
+
+import static com.chwihae.config.metrics.MetricsConfig.SERVICE_LATENCY;
 import static com.chwihae.exception.CustomExceptionError.COMMENT_NOT_FOUND;
 import static com.chwihae.exception.CustomExceptionError.FORBIDDEN;
 
@@ -23,11 +35,23 @@ import static com.chwihae.exception.CustomExceptionError.FORBIDDEN;
 @Service
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final UserService userService;
     private final QuestionQueryService questionQueryService;
     private final CommentRepository commentRepository;
     private final CommenterAliasRepository commenterAliasRepository;
-    private final CommenterSequenceRepository commenterSequenceRepository;
+    private final CommenterSequenceService commenterSequenceService;
+    private final QuestionStatsService questionStatsService;
+    private final CommenterAliasCache commenterAliasCache;
+    private final UserStatsService userStatsService;
+
+    public CursorSliceResponse<Comment> getCommentsAfterCursor(Long questionId, Long userId, String cursor, int size) {
+        QuestionEntity questionEntity = questionQueryService.findQuestionOrException(questionId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Slice<Comment> slice = commentRepository.findByQuestionIdAfterCursor(questionEntity.getId(), userId, decodeCursor(cursor), pageSize);
+        return CursorSliceResponse.of(slice, getNextCursor(slice));
+    }
 
     public Page<Comment> getComments(Long questionId, Long userId, Pageable pageable) {
         QuestionEntity questionEntity = questionQueryService.findQuestionOrException(questionId);
@@ -35,12 +59,15 @@ public class CommentService {
                 .map(it -> Comment.of(it, it.isCreatedBy(userId), it.getAlias()));
     }
 
+    @Timed(value = SERVICE_LATENCY, extraTags = {"method", "CommentService.createComment"})
     @Transactional
     public void createComment(Long questionId, Long userId, String content) {
         QuestionEntity questionEntity = questionQueryService.findQuestionOrException(questionId);
         UserEntity userEntity = userService.findUserOrException(userId);
         CommenterAliasEntity commenterAliasEntity = getOrCreateCommenterAlias(userEntity, questionEntity);
         commentRepository.save(buildCommentEntity(questionEntity, userEntity, commenterAliasEntity, content));
+        questionStatsService.increaseCommentCount(questionEntity.getId());
+        userStatsService.increaseCommentCount(userId);
     }
 
     @Transactional
@@ -56,6 +83,8 @@ public class CommentService {
         CommentEntity comment = findCommentEntityOrException(commentId);
         ensureUserIsCommenter(comment, userId);
         commentRepository.delete(comment);
+        questionStatsService.decreaseCommentCount(comment.getQuestionId());
+        userStatsService.decreaseCommentCount(userId);
     }
 
     @Transactional
@@ -63,22 +92,37 @@ public class CommentService {
         commentRepository.deleteAllByQuestionId(questionId);
     }
 
+    private Cursor decodeCursor(String cursor) {
+        return StringUtils.hasText(cursor) ? Cursor.decode(cursor) : null;
+    }
+
+    private String getNextCursor(Slice<Comment> slice) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+        Comment last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        return Cursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+
     private CommenterAliasEntity getOrCreateCommenterAlias(UserEntity userEntity, QuestionEntity questionEntity) {
-        return commentRepository.findTopByQuestionIdAndUserId(questionEntity.getId(), userEntity.getId())
-                .map(CommentEntity::getCommenterAliasEntity)
+        Long questionId = questionEntity.getId();
+        Long userId = userEntity.getId();
+        // 이미 별칭이 있는 사용자는 조회 없이 참조만 사용한다
+        Optional<CommenterAliasCache.CachedAlias> cachedAlias = commenterAliasCache.get(questionId, userId);
+        if (cachedAlias.isPresent()) {
+            return commenterAliasRepository.getReferenceById(cachedAlias.get().id());
+        }
+
+        CommenterAliasEntity commenterAliasEntity = commenterAliasRepository.findByQuestionEntityIdAndUserEntityId(questionId, userId)
                 .orElseGet(() -> createCommenterAlias(questionEntity, userEntity));
+        commenterAliasCache.putAfterCommit(questionId, userId, commenterAliasEntity);
+        return commenterAliasEntity;
     }
 
     private CommenterAliasEntity createCommenterAlias(QuestionEntity questionEntity, UserEntity userEntity) {
-        CommenterSequenceEntity commenterSequenceEntity =
-                commenterSequenceRepository.findForUpdateByQuestionEntityId(questionEntity.getId())
-                .orElseThrow(() -> new IllegalStateException("질문에 대한 댓글 작성자 순서 정보가 존재하지 않습니다."));
-        int nextSequence = commenterSequenceEntity.getSequence() + 1;
+        int nextSequence = commenterSequenceService.getNextSequence(questionEntity.getId());
         String alias = CommenterAliasPrefix.getAlias(nextSequence);
-        CommenterAliasEntity commenterAliasEntity = commenterAliasRepository.save(buildCommenterAliasEntity(alias,
-                userEntity, questionEntity));
-        commenterSequenceRepository.updateSequenceByQuestionEntityId(questionEntity.getId());
-        return commenterAliasEntity;
+        return commenterAliasRepository.save(buildCommenterAliasEntity(alias, userEntity, questionEntity));
     }
 
     private CommentEntity buildCommentEntity(QuestionEntity questionEntity, UserEntity userEntity,
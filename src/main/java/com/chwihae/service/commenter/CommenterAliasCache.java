@@ -0,0 +1,67 @@
+package com.chwihae.service.commenter;
+
+import com.chwihae.domain.commenter.CommenterAliasEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class CommenterAliasCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(30);
+
+    private final Cache<Key, CachedAlias> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+            .recordStats()
+            .build();
+
+    public Optional<CachedAlias> get(Long questionId, Long userId) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(questionId, userId)));
+    }
+
+    // 롤백된 별칭이 캐시에 남지 않도록 트랜잭션이 커밋된 뒤에 저장한다
+    public void putAfterCommit(Long questionId, Long userId, CommenterAliasEntity commenterAliasEntity) {
+        Key key = new Key(questionId, userId);
+        CachedAlias value = new CachedAlias(commenterAliasEntity.getId(), commenterAliasEntity.getAlias());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(key, value);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(key, value);
+            }
+        });
+    }
+
+    public void evictQuestion(Long questionId) {
+        cache.asMap().keySet().removeIf(it -> it.questionId().equals(questionId));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private record Key(Long questionId, Long userId) {
+    }
+
+    public record CachedAlias(Long id, String alias) {
+    }
+}
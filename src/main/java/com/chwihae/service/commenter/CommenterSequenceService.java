@@ -20,4 +20,12 @@ public class CommenterSequenceService {
                 .questionEntity(questionEntity)
                 .build());
     }
+
+    @Transactional
+    public int getNextSequence(Long questionId) {
+        if (commenterSequenceRepository.incrementSequenceByQuestionId(questionId) == 0) {
+            throw new IllegalStateException("질문에 대한 댓글 작성자 순서 정보가 존재하지 않습니다.");
+        }
+        return commenterSequenceRepository.findLastInsertId().intValue();
+    }
 }
@@ -1,5 +1,6 @@
 package com.chwihae.service.option;
 
+import com.chwihae.config.redis.VoteTallyCacheRepository;
 import com.chwihae.domain.option.OptionEntity;
 import com.chwihae.domain.option.OptionRepository;
 import com.chwihae.domain.question.QuestionEntity;
@@ -9,8 +10,11 @@ import com.chwihae.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
 
 import static com.chwihae.exception.CustomExceptionError.OPTION_NOT_FOUND;
 
@@ -20,19 +24,69 @@ import static com.chwihae.exception.CustomExceptionError.OPTION_NOT_FOUND;
 public class OptionService {
 
     private final OptionRepository optionRepository;
+    private final VoteTallyCacheRepository voteTallyCacheRepository;
 
     public OptionEntity findOptionOrException(Long optionId) {
         return optionRepository.findById(optionId).orElseThrow(() -> new CustomException(OPTION_NOT_FOUND));
     }
 
+    public OptionEntity getOptionReference(Long optionId) {
+        return optionRepository.getReferenceById(optionId);
+    }
+
     public List<Option> findOptionsWithResultsByQuestionId(Long questionId, boolean showVoteCount) {
-        return optionRepository.findOptionsWithResultsByQuestionId(questionId, showVoteCount);
+        if (!showVoteCount) {
+            return optionRepository.findOptionsWithResultsByQuestionId(questionId, false);
+        }
+
+        Map<Long, Long> tallies = voteTallyCacheRepository.getTallies(questionId);
+        if (tallies.isEmpty()) {
+            // 캐시가 없으면 DB 에서 집계한 결과로 캐시를 만든다
+            List<Option> options = optionRepository.findOptionsWithResultsByQuestionId(questionId, true);
+            voteTallyCacheRepository.initializeTallies(questionId, options);
+            return options;
+        }
+
+        List<Option> options = optionRepository.findOptionsWithResultsByQuestionId(questionId, false);
+        options.forEach(it -> it.setVoteCount(tallies.getOrDefault(it.getId(), 0L)));
+        return options;
+    }
+
+    public boolean isOptionOfQuestion(Long questionId, Long optionId) {
+        Map<Long, Long> tallies = voteTallyCacheRepository.getTallies(questionId);
+        if (tallies.isEmpty()) {
+            return findOptionsWithResultsByQuestionId(questionId, true).stream()
+                    .anyMatch(it -> it.getId().equals(optionId));
+        }
+        return tallies.containsKey(optionId);
+    }
+
+    public void increaseVoteCount(Long questionId, Long optionId) {
+        incrementTallyAfterCommit(questionId, optionId, 1L);
+    }
+
+    public void decreaseVoteCount(Long questionId, Long optionId) {
+        incrementTallyAfterCommit(questionId, optionId, -1L);
     }
 
     public void createOptions(List<OptionCreateRequest> options, QuestionEntity questionEntity) {
         optionRepository.saveAll(buildOptionEntities(options, questionEntity));
     }
 
+    // 롤백된 투표가 캐시된 투표 수에 남지 않도록 트랜잭션이 커밋된 뒤에 반영한다
+    private void incrementTallyAfterCommit(Long questionId, Long optionId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            voteTallyCacheRepository.incrementIfExists(questionId, optionId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                voteTallyCacheRepository.incrementIfExists(questionId, optionId, delta);
+            }
+        });
+    }
+
     private List<OptionEntity> buildOptionEntities(List<OptionCreateRequest> options, QuestionEntity questionEntity) {
         return options.stream()
                 .map(option -> OptionEntity.builder()
@@ -2,6 +2,7 @@ package com.chwihae.service.question;
 
 import com.chwihae.domain.question.QuestionStatus;
 import com.chwihae.domain.question.QuestionType;
+import com.chwihae.dto.common.response.CursorSliceResponse;
 import com.chwihae.dto.question.request.QuestionCreateRequest;
 import com.chwihae.dto.question.response.QuestionDetailResponse;
 import com.chwihae.dto.question.response.QuestionListResponse;
@@ -34,6 +35,11 @@ public class QuestionService {
         return questionQueryService.getQuestionsByTypeAndStatus(type, status, pageable);
     }
 
+    public CursorSliceResponse<QuestionListResponse> getQuestionsByTypeAndStatusAfterCursor(QuestionType type, QuestionStatus status,
+                                                                                          String cursor, int size) {
+        return questionQueryService.getQuestionsByTypeAndStatusAfterCursor(type, status, cursor, size);
+    }
+
     public Page<QuestionListResponse> getUserQuestions(Long userId, UserQuestionFilterType type, Pageable pageable) {
         return questionQueryService.getUserQuestions(userId, type, pageable);
     }
@@ -21,6 +21,8 @@ public class QuestionCreateService {
     private final QuestionViewService questionViewService;
     private final OptionService optionService;
     private final CommenterSequenceService commenterSequenceService;
+    private final QuestionStatsService questionStatsService;
+    private final QuestionExpiryTimer questionExpiryTimer;
 
     public Long createQuestion(QuestionCreateRequest request, Long userId) {
         UserEntity userEntity = userService.findUserOrException(userId);
@@ -28,6 +30,8 @@ public class QuestionCreateService {
         optionService.createOptions(request.getOptions(), questionEntity);
         commenterSequenceService.createCommenterSequence(questionEntity);
         questionViewService.createQuestionView(questionEntity);
+        questionStatsService.createQuestionStats(questionEntity);
+        questionExpiryTimer.registerAfterCommit(questionEntity.getId(), questionEntity.getCloseAt());
         return questionEntity.getId();
     }
 }
@@ -1,5 +1,7 @@
 package com.chwihae.service.question.core;
 
+import com.chwihae.config.redis.VoteStreamRepository;
+import com.chwihae.config.redis.VoteTallyCacheRepository;
 import com.chwihae.domain.bookmark.BookmarkRepository;
 import com.chwihae.domain.comment.CommentRepository;
 import com.chwihae.domain.commenter.CommenterAliasRepository;
@@ -7,13 +9,19 @@ import com.chwihae.domain.commenter.CommenterSequenceRepository;
 import com.chwihae.domain.option.OptionRepository;
 import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.question.QuestionRepository;
+import com.chwihae.domain.question.QuestionStatsRepository;
 import com.chwihae.domain.question.QuestionViewRepository;
 import com.chwihae.domain.vote.VoteRepository;
 import com.chwihae.exception.CustomException;
+import com.chwihae.service.commenter.CommenterAliasCache;
+import com.chwihae.service.user.UserStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static com.chwihae.exception.CustomExceptionError.FORBIDDEN;
 import static com.chwihae.exception.CustomExceptionError.QUESTION_NOT_FOUND;
 
@@ -23,6 +31,7 @@ import static com.chwihae.exception.CustomExceptionError.QUESTION_NOT_FOUND;
 public class QuestionDeletionService {
 
     private final QuestionViewRepository questionViewRepository;
+    private final QuestionStatsRepository questionStatsRepository;
     private final CommenterSequenceRepository commenterSequenceRepository;
     private final QuestionRepository questionRepository;
     private final OptionRepository optionRepository;
@@ -30,20 +39,32 @@ public class QuestionDeletionService {
     private final VoteRepository voteRepository;
     private final BookmarkRepository bookmarkRepository;
     private final CommenterAliasRepository commenterAliasRepository;
+    private final VoteTallyCacheRepository voteTallyCacheRepository;
+    private final VoteStreamRepository voteStreamRepository;
+    private final CommenterAliasCache commenterAliasCache;
+    private final UserStatsService userStatsService;
 
     public void deleteQuestion(Long questionId, Long userId) {
         QuestionEntity questionEntity = findQuestionOrException(questionId);
         ensureQuestionIsClosed(questionEntity);
         ensureUserIsQuestioner(questionEntity, userId);
 
+        Set<Long> participantIds = new HashSet<>(voteRepository.findVoterIdsByQuestionId(questionId));
+        participantIds.addAll(commentRepository.findCommenterIdsByQuestionId(questionId));
+
         voteRepository.deleteAllByQuestionId(questionId); // vote
         optionRepository.deleteAllByQuestionId(questionId); // option
         bookmarkRepository.deleteAllByQuestionId(questionId); // bookmark
         commenterSequenceRepository.deleteAllByQuestionId(questionId); // commenter sequence
         questionViewRepository.deleteAllByQuestionId(questionId); // question view
+        questionStatsRepository.deleteAllByQuestionId(questionId); // question stats
         commenterAliasRepository.deleteAllByQuestionId(questionId); // commenter alias
+        commenterAliasCache.evictQuestion(questionId); // commenter alias cache
         commentRepository.deleteAllByQuestionId(questionId); // comment
+        voteTallyCacheRepository.delete(questionId); // vote tally cache
+        voteStreamRepository.deleteVoters(questionId); // voter dedupe set
         questionRepository.delete(questionEntity);
+        userStatsService.syncCounts(participantIds); // user stats
     }
 
 
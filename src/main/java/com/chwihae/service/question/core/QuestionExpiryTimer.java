@@ -0,0 +1,133 @@
+package com.chwihae.service.question.core;
+
+import com.chwihae.domain.question.QuestionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import static com.chwihae.domain.question.QuestionStatus.IN_PROGRESS;
+import static com.chwihae.utils.TimeUtils.KST;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class QuestionExpiryTimer {
+
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Duration LOAD_WINDOW = Duration.ofMinutes(10);
+    // 적재 구간이 겹치도록 적재 주기를 적재 구간보다 짧게 둔다
+    private static final long LOAD_INTERVAL_MILLIS = 5 * 60 * 1000L;
+    private final QuestionRepository questionRepository;
+    private final DelayQueue<ExpiringQuestion> queue = new DelayQueue<>();
+    private final Set<Long> registeredIds = ConcurrentHashMap.newKeySet();
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (Objects.nonNull(worker)) {
+            return;
+        }
+        loadUpcoming();
+        log.info("Question expiry timer started with {} questions", queue.size());
+
+        worker = new Thread(this::run, "QuestionExpiryTimer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (Objects.nonNull(worker)) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    // 적재 구간 안에 마감되는 질문만 올리고, 다음 구간의 질문은 다음 적재 주기에 올린다
+    @Scheduled(fixedDelay = LOAD_INTERVAL_MILLIS, initialDelay = LOAD_INTERVAL_MILLIS)
+    public void loadUpcoming() {
+        questionRepository.findByStatusAndCloseAtBefore(IN_PROGRESS, LocalDateTime.now(KST).plus(LOAD_WINDOW))
+                .forEach(it -> register(it.getId(), it.getCloseAt()));
+    }
+
+    public void register(Long questionId, LocalDateTime closeAt) {
+        // 이미 등록된 질문은 적재 구간이 겹쳐도 다시 올리지 않는다
+        if (registeredIds.add(questionId)) {
+            queue.offer(new ExpiringQuestion(questionId, closeAt));
+        }
+    }
+
+    // 롤백된 질문이 마감 대상에 남지 않도록 트랜잭션이 커밋된 뒤에 등록한다
+    public void registerAfterCommit(Long questionId, LocalDateTime closeAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            register(questionId, closeAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                register(questionId, closeAt);
+            }
+        });
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<ExpiringQuestion> expired = new ArrayList<>();
+                expired.add(queue.take());
+                queue.drainTo(expired, MAX_BATCH_SIZE - 1);
+                closeQuestions(expired);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // 마감하지 못한 질문은 CloseQuestionScheduler 의 배치 작업이 마감한다
+                log.error("Failed to close expired questions", e);
+            }
+        }
+    }
+
+    private void closeQuestions(List<ExpiringQuestion> expired) {
+        List<Long> questionIds = expired.stream().map(ExpiringQuestion::questionId).distinct().toList();
+        try {
+            int closedCount = questionRepository.closeAllByIdIn(questionIds, LocalDateTime.now(KST));
+            log.debug("Closed {} of {} expired questions", closedCount, questionIds.size());
+        } finally {
+            questionIds.forEach(registeredIds::remove);
+        }
+    }
+
+    record ExpiringQuestion(Long questionId, LocalDateTime closeAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(KST), closeAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
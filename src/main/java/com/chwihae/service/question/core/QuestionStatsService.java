@@ -0,0 +1,53 @@
+package com.chwihae.service.question.core;
+
+import com.chwihae.domain.question.QuestionEntity;
+import com.chwihae.domain.question.QuestionStatsEntity;
+import com.chwihae.domain.question.QuestionStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class QuestionStatsService {
+
+    private final QuestionStatsRepository questionStatsRepository;
+
+    @Transactional
+    public void createQuestionStats(QuestionEntity questionEntity) {
+        questionStatsRepository.save(QuestionStatsEntity.builder()
+                .questionEntity(questionEntity)
+                .build());
+    }
+
+    @Transactional
+    public void increaseVoteCount(Long questionId) {
+        questionStatsRepository.increaseVoteCount(questionId);
+    }
+
+    @Transactional
+    public void decreaseVoteCount(Long questionId) {
+        questionStatsRepository.decreaseVoteCount(questionId);
+    }
+
+    @Transactional
+    public void increaseCommentCount(Long questionId) {
+        questionStatsRepository.increaseCommentCount(questionId);
+    }
+
+    @Transactional
+    public void decreaseCommentCount(Long questionId) {
+        questionStatsRepository.decreaseCommentCount(questionId);
+    }
+
+    @Transactional
+    public void increaseBookmarkCount(Long questionId) {
+        questionStatsRepository.increaseBookmarkCount(questionId);
+    }
+
+    @Transactional
+    public void decreaseBookmarkCount(Long questionId) {
+        questionStatsRepository.decreaseBookmarkCount(questionId);
+    }
+}
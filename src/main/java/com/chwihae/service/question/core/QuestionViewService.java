@@ -6,19 +6,21 @@ import com.chwihae.domain.question.QuestionViewEntity;
 import com.chwihae.domain.question.QuestionViewRepository;
 import com.chwihae.dto.question.response.QuestionViewResponse;
 import com.chwihae.exception.CustomException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.chwihae.config.metrics.MetricsConfig.SERVICE_LATENCY;
 import static com.chwihae.exception.CustomExceptionError.QUESTION_NOT_FOUND;
 
 @Transactional(readOnly = true)
@@ -26,11 +28,8 @@ import static com.chwihae.exception.CustomExceptionError.QUESTION_NOT_FOUND;
 @Service
 public class QuestionViewService {
 
-    private static final String LOCK_PREFIX = "question:%d:views:lock:";
-    private static final Duration LOCK_EXPIRED_DURATION = Duration.ofSeconds(3);
     private final QuestionViewRepository questionViewRepository;
     private final QuestionViewCacheRepository questionViewCacheRepository;
-    private final RedisTemplate<String, String> questionViewLockRedisTemplate;
 
     @Transactional
     public void createQuestionView(QuestionEntity questionEntity) {
@@ -41,27 +40,40 @@ public class QuestionViewService {
 
     public Long getViewCount(Long questionId) {
         return questionViewCacheRepository.getViewCount(questionId)
-                .orElseGet(() -> questionViewRepository.findViewCountByQuestionEntityId(questionId)
-                        .map(viewCount -> {
-                            questionViewCacheRepository.setViewCount(questionId, viewCount);
-                            return viewCount;
-                        })
-                        .orElseThrow(() -> new CustomException(QUESTION_NOT_FOUND))
-                );
+                .orElseGet(() -> loadViewCount(questionId));
+    }
+
+    // 캐시만 조회하므로 DB 커넥션을 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<Long> getCachedViewCount(Long questionId) {
+        return questionViewCacheRepository.getViewCount(questionId);
+    }
+
+    public Long loadViewCount(Long questionId) {
+        return questionViewRepository.findViewCountByQuestionEntityId(questionId)
+                .map(viewCount -> {
+                    questionViewCacheRepository.setViewCount(questionId, viewCount);
+                    return viewCount;
+                })
+                .orElseThrow(() -> new CustomException(QUESTION_NOT_FOUND));
     }
 
     public List<QuestionViewResponse> getViewCounts(List<Long> questionIds) {
         List<QuestionViewResponse> viewsFromCache = questionViewCacheRepository.getViewCounts(questionIds); // 1. Get view count from cache
 
+        Set<Long> cachedIds = viewsFromCache.stream()
+                .map(QuestionViewResponse::getQuestionId)
+                .collect(Collectors.toSet());
         List<Long> idsNotInCache = questionIds.stream() // 2. Find question id not in cache
-                .filter(it -> viewsFromCache.stream().noneMatch(view -> Objects.equals(view.getQuestionId(), it)))
+                .filter(it -> !cachedIds.contains(it))
+                .distinct()
                 .toList();
         if (CollectionUtils.isEmpty(idsNotInCache)) {
             return viewsFromCache;
         }
 
         List<QuestionViewResponse> viewsFromDb = getViewsFromDb(idsNotInCache); // 3. Get view count that not exists in cache from DB
-        viewsFromDb.forEach(it -> questionViewCacheRepository.setViewCount(it.getQuestionId(), it.getViewCount())); // 4. Save view count in cache
+        questionViewCacheRepository.setViewCounts(viewsFromDb); // 4. Save view count in cache (pipelined)
         viewsFromCache.addAll(viewsFromDb); // 5. Cache + DB
         return viewsFromCache;
     }
@@ -74,50 +86,31 @@ public class QuestionViewService {
     }
 
     public void incrementViewCount(Long questionId) {
-        acquireLock(questionId);
-        try {
-            if (!questionViewCacheRepository.existsByQuestionId(questionId)) {
-                long viewCount = questionViewRepository.findViewCountByQuestionEntityId(questionId)
-                        .orElseThrow(() -> new CustomException(QUESTION_NOT_FOUND));
-                questionViewCacheRepository.setViewCount(questionId, viewCount);
-            }
-
-            questionViewCacheRepository.incrementViewCount(questionId);
-        } finally {
-            releaseLock(questionId);
+        if (questionViewCacheRepository.incrementViewCountIfExists(questionId).isPresent()) {
+            return;
         }
-    }
-
-    private void acquireLock(Long questionId) {
-        final int maxAttempts = 10;
-        String lockKey = getLockKey(questionId);
-        ValueOperations<String, String> ops = questionViewLockRedisTemplate.opsForValue();
 
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            Boolean isSuccess = ops.setIfAbsent(lockKey, "LOCKED", LOCK_EXPIRED_DURATION);
-            if (Boolean.TRUE.equals(isSuccess)) {
-                return;
-            }
-
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-
-        }
-        throw new IllegalStateException("Failed to acquire lock for " + questionId);
+        long viewCount = questionViewRepository.findViewCountByQuestionEntityId(questionId)
+                .orElseThrow(() -> new CustomException(QUESTION_NOT_FOUND));
+        questionViewCacheRepository.initializeAndIncrementViewCount(questionId, viewCount);
     }
 
-    private void releaseLock(Long questionId) {
-        String lockKey = getLockKey(questionId);
-        String currentLockValue = questionViewLockRedisTemplate.opsForValue().get(lockKey);
-        if ("LOCKED".equals(currentLockValue)) {
-            questionViewLockRedisTemplate.delete(lockKey);
+    // 반영을 마친 질문은 pendingDeltas 에서 제거하므로, 예외가 발생하면 호출자는 남은 항목만 다시 반영하면 된다
+    @Timed(value = SERVICE_LATENCY, extraTags = {"method", "QuestionViewService.incrementViewCounts"})
+    public void incrementViewCounts(Map<Long, Long> pendingDeltas) {
+        List<Long> idsNotInCache = questionViewCacheRepository.incrementViewCountsIfExist(pendingDeltas);
+        pendingDeltas.keySet().retainAll(idsNotInCache);
+        if (CollectionUtils.isEmpty(idsNotInCache)) {
+            return;
         }
-    }
 
-    private String getLockKey(Long questionId) {
-        return LOCK_PREFIX + questionId;
+        List<QuestionViewResponse> viewsFromDb = getViewsFromDb(idsNotInCache);
+        // 삭제된 질문은 DB 에서 조회되지 않으므로 누적된 조회 수를 버린다
+        Set<Long> existingIds = viewsFromDb.stream().map(QuestionViewResponse::getQuestionId).collect(Collectors.toSet());
+        pendingDeltas.keySet().retainAll(existingIds);
+        viewsFromDb.forEach(it -> {
+            questionViewCacheRepository.initializeAndIncrementViewCount(it.getQuestionId(), it.getViewCount(), pendingDeltas.get(it.getQuestionId()));
+            pendingDeltas.remove(it.getQuestionId());
+        });
     }
 }
@@ -1,12 +1,12 @@
 package com.chwihae.service.question.query;
 
-import com.chwihae.domain.bookmark.BookmarkRepository;
-import com.chwihae.domain.comment.CommentRepository;
+import com.chwihae.config.async.ParallelQueryExecutor;
 import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.question.QuestionRepository;
 import com.chwihae.domain.question.QuestionStatus;
 import com.chwihae.domain.question.QuestionType;
-import com.chwihae.domain.vote.VoteRepository;
+import com.chwihae.dto.common.request.Cursor;
+import com.chwihae.dto.common.response.CursorSliceResponse;
 import com.chwihae.dto.question.response.QuestionDetailResponse;
 import com.chwihae.dto.question.response.QuestionListResponse;
 import com.chwihae.dto.question.response.QuestionViewResponse;
@@ -15,16 +15,22 @@ import com.chwihae.event.question.QuestionViewEvent;
 import com.chwihae.exception.CustomException;
 import com.chwihae.service.question.core.QuestionViewService;
 import com.chwihae.service.question.strategy.UserQuestionsFilterStrategyProvider;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
 
+import static com.chwihae.config.metrics.MetricsConfig.SERVICE_LATENCY;
 import static com.chwihae.exception.CustomExceptionError.QUESTION_NOT_FOUND;
 
 
@@ -33,13 +39,12 @@ import static com.chwihae.exception.CustomExceptionError.QUESTION_NOT_FOUND;
 @Service
 public class QuestionQueryService {
 
-    private final CommentRepository commentRepository;
-    private final VoteRepository voteRepository;
-    private final BookmarkRepository bookmarkRepository;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     private final QuestionRepository questionRepository;
     private final QuestionViewService questionViewService;
     private final UserQuestionsFilterStrategyProvider questionsFilterStrategyProvider;
     private final ApplicationEventPublisher eventPublisher;
+    private final ParallelQueryExecutor parallelQueryExecutor;
 
     public Page<QuestionListResponse> getQuestionsByTypeAndStatus(QuestionType type, QuestionStatus status, Pageable pageable) {
         Page<QuestionListResponse> page = questionRepository.findByTypeAndStatusWithCounts(status, type, pageable);
@@ -48,6 +53,15 @@ public class QuestionQueryService {
         return page;
     }
 
+    public CursorSliceResponse<QuestionListResponse> getQuestionsByTypeAndStatusAfterCursor(QuestionType type, QuestionStatus status,
+                                                                                          String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Slice<QuestionListResponse> slice = questionRepository.findByTypeAndStatusWithCountsAfterCursor(status, type, decodeCursor(cursor), pageSize);
+        List<QuestionViewResponse> allViewCounts = findAllQuestionViewCounts(slice.getContent());
+        setPageViewCounts(slice.getContent(), allViewCounts);
+        return CursorSliceResponse.of(slice, getNextCursor(slice));
+    }
+
     public Page<QuestionListResponse> getUserQuestions(Long userId, UserQuestionFilterType type, Pageable pageable) {
         Page<QuestionListResponse> page = questionsFilterStrategyProvider.getFilter(type).filter(userId, pageable);
         List<QuestionViewResponse> allViewCounts = findAllQuestionViewCounts(page.getContent());
@@ -62,41 +76,54 @@ public class QuestionQueryService {
         return questionViewService.getViewCounts(questionIds);
     }
 
-    private void setPageViewCounts(List<QuestionListResponse> content, List<QuestionViewResponse> allViewCounts) {
-        content.forEach(it ->
-                allViewCounts.stream()
-                        .filter(view -> Objects.equals(view.getQuestionId(), it.getId()))
-                        .findFirst()
-                        .ifPresent(view -> it.setViewCount(view.getViewCount()))
-        );
+    private Cursor decodeCursor(String cursor) {
+        return StringUtils.hasText(cursor) ? Cursor.decode(cursor) : null;
+    }
+
+    private String getNextCursor(Slice<QuestionListResponse> slice) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+        QuestionListResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        return Cursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    static void setPageViewCounts(List<QuestionListResponse> content, List<QuestionViewResponse> allViewCounts) {
+        // 질문마다 전체 조회 수 목록을 훑지 않도록 아이디로 한 번 인덱싱한다
+        Map<Long, Long> viewCountsByQuestionId = new HashMap<>(allViewCounts.size() * 2);
+        allViewCounts.forEach(view -> viewCountsByQuestionId.putIfAbsent(view.getQuestionId(), view.getViewCount()));
+        content.forEach(it -> {
+            Long viewCount = viewCountsByQuestionId.get(it.getId());
+            if (viewCount != null) {
+                it.setViewCount(viewCount);
+            }
+        });
     }
 
     public QuestionEntity findQuestionOrException(Long questionId) {
         return questionRepository.findById(questionId).orElseThrow(() -> new CustomException(QUESTION_NOT_FOUND));
     }
 
+    @Timed(value = SERVICE_LATENCY, extraTags = {"method", "QuestionQueryService.getQuestion"})
     public QuestionDetailResponse getQuestion(Long questionId, Long userId) {
-        QuestionEntity questionEntity = findQuestionOrException(questionId);
+        // Redis 조회수는 DB 조회와 병렬로 가져온다
+        QuestionDetailResponse response = parallelQueryExecutor.fork("getQuestion",
+                () -> findCachedViewCount(questionId),
+                () -> questionRepository.findDetailById(questionId, userId).orElseThrow(() -> new CustomException(QUESTION_NOT_FOUND)),
+                (cachedViewCount, detail) -> {
+                    detail.setViewCount(cachedViewCount.orElseGet(() -> questionViewService.loadViewCount(questionId)));
+                    return detail;
+                });
         eventPublisher.publishEvent(new QuestionViewEvent(questionId));
-        return buildQuestionDetailResponse(questionId, userId, questionEntity);
+        return response;
     }
 
-    private QuestionDetailResponse buildQuestionDetailResponse(Long questionId, Long userId, QuestionEntity questionEntity) {
-        boolean bookmarked = bookmarkRepository.existsByQuestionEntityIdAndUserEntityId(questionId, userId);
-        long viewCount = questionViewService.getViewCount(questionId);
-        int bookmarkCount = bookmarkRepository.countByQuestionEntityId(questionId);
-        int voteCount = voteRepository.countByQuestionEntityId(questionId);
-        int commentCount = commentRepository.countByQuestionEntityId(questionId);
-        boolean isEditable = questionEntity.isCreatedBy(userId);
-
-        return QuestionDetailResponse.of(
-                questionEntity,
-                viewCount,
-                bookmarkCount,
-                commentCount,
-                voteCount,
-                bookmarked,
-                isEditable
-        );
+    private Optional<Long> findCachedViewCount(Long questionId) {
+        try {
+            return questionViewService.getCachedViewCount(questionId);
+        } catch (RuntimeException e) {
+            // 캐시 조회에 실패하면 DB 에서 조회한다
+            return Optional.empty();
+        }
     }
 }
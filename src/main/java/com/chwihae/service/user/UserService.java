@@ -1,11 +1,8 @@
 package com.chwihae.service.user;
 
 import com.chwihae.config.redis.UserContextCacheRepository;
-import com.chwihae.domain.comment.CommentRepository;
 import com.chwihae.domain.user.UserEntity;
-import com.chwihae.domain.user.UserLevel;
 import com.chwihae.domain.user.UserRepository;
-import com.chwihae.domain.vote.VoteRepository;
 import com.chwihae.dto.user.UserContext;
 import com.chwihae.dto.user.UserStatisticsResponse;
 import com.chwihae.exception.CustomException;
@@ -26,8 +23,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserContextCacheRepository userContextCacheRepository;
-    private final VoteRepository voteRepository;
-    private final CommentRepository commentRepository;
+    private final UserStatsService userStatsService;
 
     @Transactional
     public UserEntity getOrCreateUser(String email) {
@@ -49,15 +45,16 @@ public class UserService {
         return userRepository.findById(userId).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
     }
 
+    public UserEntity getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     public UserEntity findUserWithLockOrException(Long userId) {
         return userRepository.findWithLockById(userId).orElseThrow(() -> new CustomException(USER_NOT_FOUND));
     }
 
     public UserStatisticsResponse getUserStatistics(Long userId) {
-        int commentCount = commentRepository.countByUserEntityId(userId);
-        int voteCount = voteRepository.countByUserEntityId(userId);
-        UserLevel userLevel = UserLevel.getLevel(voteCount, commentCount);
-        return UserStatisticsResponse.of(userLevel, commentCount, voteCount);
+        return userStatsService.getUserStatistics(userId);
     }
 
     public void setUserContext(UserContext userContext) {
@@ -65,8 +62,10 @@ public class UserService {
     }
 
     private UserEntity saveUser(String email) {
-        return userRepository.save(UserEntity.builder()
+        UserEntity userEntity = userRepository.save(UserEntity.builder()
                 .email(email)
                 .build());
+        userStatsService.createUserStats(userEntity);
+        return userEntity;
     }
 }
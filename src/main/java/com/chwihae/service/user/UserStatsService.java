@@ -0,0 +1,126 @@
+package com.chwihae.service.user;
+
+import com.chwihae.config.redis.UserStatsCacheRepository;
+import com.chwihae.domain.comment.CommentRepository;
+import com.chwihae.domain.user.UserEntity;
+import com.chwihae.domain.user.UserLevel;
+import com.chwihae.domain.user.UserStatsEntity;
+import com.chwihae.domain.user.UserStatsRepository;
+import com.chwihae.domain.user.UserStatsSnapshot;
+import com.chwihae.domain.vote.VoteRepository;
+import com.chwihae.dto.user.UserStatisticsResponse;
+import com.chwihae.event.user.UserLevelUpEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatsCacheRepository userStatsCacheRepository;
+    private final VoteRepository voteRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserStatisticsResponse getUserStatistics(Long userId) {
+        return userStatsCacheRepository.get(userId)
+                .orElseGet(() -> {
+                    // DB 를 읽는 동안 커밋된 변경이 캐시를 지웠다면 읽은 값이 이전 값일 수 있으므로 캐시에 저장하지 않는다
+                    long version = userStatsCacheRepository.getVersion(userId);
+                    UserStatisticsResponse statistics = userStatsRepository.findSnapshotByUserId(userId)
+                            .map(it -> UserStatisticsResponse.of(it.getLevel(), it.getCommentCount(), it.getVoteCount()))
+                            .orElseGet(() -> countUserStatistics(userId));
+                    userStatsCacheRepository.setIfVersionMatches(userId, version, statistics);
+                    return statistics;
+                });
+    }
+
+    @Transactional
+    public void createUserStats(UserEntity userEntity) {
+        userStatsRepository.save(UserStatsEntity.builder()
+                .userEntity(userEntity)
+                .build());
+    }
+
+    @Transactional
+    public void increaseVoteCount(Long userId) {
+        applyChange(userId, userStatsRepository.addVoteCount(userId, 1));
+    }
+
+    @Transactional
+    public void decreaseVoteCount(Long userId) {
+        applyChange(userId, userStatsRepository.addVoteCount(userId, -1));
+    }
+
+    @Transactional
+    public void increaseCommentCount(Long userId) {
+        applyChange(userId, userStatsRepository.addCommentCount(userId, 1));
+    }
+
+    @Transactional
+    public void decreaseCommentCount(Long userId) {
+        applyChange(userId, userStatsRepository.addCommentCount(userId, -1));
+    }
+
+    // 일괄 삭제나 일괄 저장처럼 건별로 증감할 수 없는 경우 실제 투표 수와 댓글 수로 다시 맞춘다
+    @Transactional
+    public void syncCounts(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (userStatsRepository.syncAllCounts(userIds) < userIds.size()) {
+            // 통계 행이 없는 기존 사용자는 실제 값으로 행을 만든다
+            userStatsRepository.insertAllIfAbsent(userIds);
+        }
+        userStatsRepository.findSnapshotsByUserIdIn(userIds).forEach(it -> updateLevel(it.getUserId(), it));
+        evictCacheAfterCommit(userIds);
+    }
+
+    private void applyChange(Long userId, int updatedCount) {
+        if (updatedCount == 0) {
+            // 통계 행이 없는 기존 사용자는 실제 값으로 행을 만든다
+            userStatsRepository.insertIfAbsent(userId);
+        }
+        userStatsRepository.findSnapshotByUserId(userId).ifPresent(it -> updateLevel(userId, it));
+        evictCacheAfterCommit(List.of(userId));
+    }
+
+    private void updateLevel(Long userId, UserStatsSnapshot snapshot) {
+        UserLevel level = UserLevel.getLevel(snapshot.getVoteCount(), snapshot.getCommentCount());
+        if (level == snapshot.getLevel() || userStatsRepository.updateLevel(userId, level) == 0) {
+            return;
+        }
+        if (level.isHigherThan(snapshot.getLevel())) {
+            eventPublisher.publishEvent(new UserLevelUpEvent(userId, snapshot.getLevel(), level));
+        }
+    }
+
+    // 롤백된 값이 캐시에 남지 않도록 커밋 후에 캐시를 지우고 다음 조회 때 다시 채운다
+    private void evictCacheAfterCommit(Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userStatsCacheRepository.deleteAll(userIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userStatsCacheRepository.deleteAll(userIds);
+            }
+        });
+    }
+
+    private UserStatisticsResponse countUserStatistics(Long userId) {
+        int commentCount = commentRepository.countByUserEntityId(userId);
+        int voteCount = voteRepository.countByUserEntityId(userId);
+        return UserStatisticsResponse.of(UserLevel.getLevel(voteCount, commentCount), commentCount, voteCount);
+    }
+}
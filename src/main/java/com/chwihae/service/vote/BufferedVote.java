@@ -0,0 +1,15 @@
+package com.chwihae.service.vote;
+
+import java.util.Map;
+
+import static com.chwihae.config.redis.VoteStreamRepository.*;
+
+record BufferedVote(Long questionId, Long optionId, Long userId) {
+
+    static BufferedVote from(Map<Object, Object> fields) {
+        return new BufferedVote(
+                Long.valueOf(String.valueOf(fields.get(QUESTION_ID))),
+                Long.valueOf(String.valueOf(fields.get(OPTION_ID))),
+                Long.valueOf(String.valueOf(fields.get(USER_ID))));
+    }
+}
@@ -0,0 +1,120 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.service.user.UserStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class VoteBatchService {
+
+    private static final String INCREASE_VOTE_COUNT_SQL = "UPDATE question_stats " +
+            "SET vote_count = vote_count + ? " +
+            "WHERE id_question = ? AND deleted_at IS NULL";
+    private final JdbcTemplate jdbcTemplate;
+    private final UserStatsService userStatsService;
+
+    // 새로 저장된 투표 수만큼 질문 통계를 늘리고, 외래 키 제약을 위반한 투표는 저장하지 않고 돌려준다
+    @Transactional
+    public Result saveAll(Collection<BufferedVote> votes) {
+        List<BufferedVote> newVotes = excludeStoredVotes(votes);
+        if (newVotes.isEmpty()) {
+            return new Result(0, List.of());
+        }
+
+        List<BufferedVote> inserted = new ArrayList<>();
+        List<BufferedVote> rejected = new ArrayList<>();
+        try {
+            jdbcTemplate.update(buildInsertSql(newVotes.size()), buildInsertArgs(newVotes));
+            inserted.addAll(newVotes);
+        } catch (DataIntegrityViolationException e) {
+            // 제약 조건을 위반한 투표만 골라내기 위해 한 건씩 다시 저장한다
+            newVotes.forEach(vote -> {
+                try {
+                    jdbcTemplate.update(buildInsertSql(1), buildInsertArgs(List.of(vote)));
+                    inserted.add(vote);
+                } catch (DataIntegrityViolationException ex) {
+                    rejected.add(vote);
+                }
+            });
+        }
+
+        increaseQuestionVoteCounts(inserted);
+        Set<Long> userIds = new LinkedHashSet<>();
+        inserted.forEach(it -> userIds.add(it.userId()));
+        userStatsService.syncCounts(userIds);
+        return new Result(inserted.size(), rejected);
+    }
+
+    // 같은 질문과 투표자의 행을 잠가 다른 노드가 같은 투표를 동시에 저장하지 못하게 한 뒤, 이미 저장된 투표를 제외한다
+    private List<BufferedVote> excludeStoredVotes(Collection<BufferedVote> votes) {
+        Set<String> storedKeys = new HashSet<>(jdbcTemplate.query(buildSelectStoredSql(votes.size()),
+                (rs, rowNum) -> toKey(rs.getLong("id_question"), rs.getLong("id_voter")),
+                buildSelectStoredArgs(votes)));
+        return votes.stream()
+                .filter(it -> !storedKeys.contains(toKey(it.questionId(), it.userId())))
+                .toList();
+    }
+
+    private void increaseQuestionVoteCounts(List<BufferedVote> inserted) {
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        inserted.forEach(it -> deltas.merge(it.questionId(), 1, Integer::sum));
+        List<Object[]> args = new ArrayList<>();
+        deltas.forEach((questionId, delta) -> args.add(new Object[]{delta, questionId}));
+        jdbcTemplate.batchUpdate(INCREASE_VOTE_COUNT_SQL, args);
+    }
+
+    static String buildSelectStoredSql(int size) {
+        return "SELECT id_question, id_voter FROM vote " +
+                "WHERE (id_question, id_voter) IN (" + String.join(", ", Collections.nCopies(size, "(?, ?)")) + ") " +
+                "AND deleted_at IS NULL AND valid = 1 " +
+                "FOR UPDATE";
+    }
+
+    // 유니크 키 중복만 무시하고 외래 키 위반 같은 다른 오류는 그대로 던진다
+    static String buildInsertSql(int size) {
+        return "INSERT INTO vote (id_question, id_option, id_voter, valid, created_at, modified_at) VALUES " +
+                String.join(", ", Collections.nCopies(size, "(?, ?, ?, 1, NOW(), NOW())")) +
+                " ON DUPLICATE KEY UPDATE id_vote = id_vote";
+    }
+
+    private Object[] buildSelectStoredArgs(Collection<BufferedVote> votes) {
+        List<Object> args = new ArrayList<>();
+        votes.forEach(it -> {
+            args.add(it.questionId());
+            args.add(it.userId());
+        });
+        return args.toArray();
+    }
+
+    private Object[] buildInsertArgs(Collection<BufferedVote> votes) {
+        List<Object> args = new ArrayList<>();
+        votes.forEach(it -> {
+            args.add(it.questionId());
+            args.add(it.optionId());
+            args.add(it.userId());
+        });
+        return args.toArray();
+    }
+
+    private String toKey(Long questionId, Long userId) {
+        return questionId + ":" + userId;
+    }
+
+    record Result(int insertedCount, List<BufferedVote> rejectedVotes) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.dto.option.response.Option;
+import com.chwihae.service.option.OptionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VoteResultBroadcaster {
+
+    public static final String EVENT_NAME = "vote-results";
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final long BROADCAST_INTERVAL_MILLIS = 1000L;
+
+    private final OptionService optionService;
+    private final Executor voteBroadcastExecutor;
+    private final Map<Long, QuestionChannel> channels = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long questionId, List<Option> options) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        channels.compute(questionId, (id, channel) -> {
+            QuestionChannel subscribed = Objects.requireNonNullElseGet(channel, () -> new QuestionChannel(toVoteCounts(options)));
+            subscribed.subscribers.add(new Subscriber(emitter));
+            return subscribed;
+        });
+        emitter.onCompletion(() -> unsubscribe(questionId, emitter));
+        emitter.onTimeout(() -> unsubscribe(questionId, emitter));
+        emitter.onError(e -> unsubscribe(questionId, emitter));
+
+        if (!send(emitter, options)) {
+            unsubscribe(questionId, emitter);
+        }
+        return emitter;
+    }
+
+    // 질문마다 투표 수를 한 번만 조회해서 변경된 경우에만 모든 구독자에게 전송한다
+    @Scheduled(fixedDelay = BROADCAST_INTERVAL_MILLIS)
+    public void broadcast() {
+        channels.forEach((questionId, channel) -> {
+            try {
+                broadcast(questionId, channel);
+            } catch (RuntimeException e) {
+                log.error("Failed to broadcast vote results of question {}", questionId, e);
+            }
+        });
+    }
+
+    public int getSubscriberCount(Long questionId) {
+        QuestionChannel channel = channels.get(questionId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    private void broadcast(Long questionId, QuestionChannel channel) {
+        if (channel.subscribers.isEmpty()) {
+            channels.computeIfPresent(questionId, (id, current) -> current.subscribers.isEmpty() ? null : current);
+            return;
+        }
+
+        List<Option> options = optionService.findOptionsWithResultsByQuestionId(questionId, true);
+        Map<Long, Long> voteCounts = toVoteCounts(options);
+        if (Objects.equals(voteCounts, channel.lastVoteCounts)) {
+            return;
+        }
+        channel.lastVoteCounts = voteCounts;
+        channel.subscribers.forEach(subscriber -> enqueue(questionId, subscriber, options));
+    }
+
+    // 느린 구독자가 스케줄러 스레드를 막지 않도록 전송은 별도 실행기에서 하고,
+    // 이전 전송이 끝나지 않았으면 최신 결과만 남겨 구독자마다 한 번에 하나씩 순서대로 보낸다
+    private void enqueue(Long questionId, Subscriber subscriber, List<Option> options) {
+        if (subscriber.pending.getAndSet(options) != null) {
+            return;
+        }
+        try {
+            voteBroadcastExecutor.execute(() -> drain(questionId, subscriber));
+        } catch (TaskRejectedException e) {
+            subscriber.pending.set(null);
+            log.warn("Vote result broadcast executor is saturated, skipped a subscriber of question {}", questionId);
+        }
+    }
+
+    private void drain(Long questionId, Subscriber subscriber) {
+        List<Option> options = subscriber.pending.get();
+        while (options != null) {
+            if (!send(subscriber.emitter, options)) {
+                subscriber.pending.set(null);
+                unsubscribe(questionId, subscriber.emitter);
+                return;
+            }
+            if (subscriber.pending.compareAndSet(options, null)) {
+                return;
+            }
+            options = subscriber.pending.get();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, List<Option> options) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(options, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Long questionId, SseEmitter emitter) {
+        QuestionChannel channel = channels.get(questionId);
+        if (channel != null) {
+            channel.subscribers.removeIf(it -> it.emitter == emitter);
+        }
+    }
+
+    private Map<Long, Long> toVoteCounts(List<Option> options) {
+        Map<Long, Long> voteCounts = new HashMap<>();
+        options.forEach(it -> voteCounts.put(it.getId(), Objects.requireNonNullElse(it.getVoteCount(), 0L)));
+        return voteCounts;
+    }
+
+    private static class QuestionChannel {
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile Map<Long, Long> lastVoteCounts;
+
+        private QuestionChannel(Map<Long, Long> lastVoteCounts) {
+            this.lastVoteCounts = lastVoteCounts;
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, AtomicReference<List<Option>> pending) {
+
+        private Subscriber(SseEmitter emitter) {
+            this(emitter, new AtomicReference<>());
+        }
+    }
+}
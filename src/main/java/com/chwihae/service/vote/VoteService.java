@@ -1,28 +1,35 @@
 package com.chwihae.service.vote;
 
+import com.chwihae.config.properties.VoteWriteBehindProperties;
+import com.chwihae.config.redis.VoteStreamRepository;
 import com.chwihae.domain.option.OptionEntity;
 import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.user.UserEntity;
+import com.chwihae.domain.vote.QuestionVoteContext;
 import com.chwihae.domain.vote.VoteEntity;
 import com.chwihae.domain.vote.VoteRepository;
 import com.chwihae.dto.option.response.Option;
 import com.chwihae.dto.option.response.VoteOptionResponse;
 import com.chwihae.exception.CustomException;
 import com.chwihae.service.option.OptionService;
+import com.chwihae.service.question.core.QuestionStatsService;
 import com.chwihae.service.question.query.QuestionQueryService;
 import com.chwihae.service.user.UserService;
+import com.chwihae.service.user.UserStatsService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
+import static com.chwihae.config.metrics.MetricsConfig.SERVICE_LATENCY;
 import static com.chwihae.exception.CustomExceptionError.*;
 import static com.chwihae.utils.TimeUtils.KST;
 
@@ -31,30 +38,57 @@ import static com.chwihae.utils.TimeUtils.KST;
 @Service
 public class VoteService {
 
+    private static final int DUPLICATE_KEY_ERROR_CODE = 1062;
+    private static final int FOREIGN_KEY_ERROR_CODE = 1452;
+    private static final String UNIQUE_VOTE_CONSTRAINT = "uk_vote_user_question_valid";
+    private static final String OPTION_FOREIGN_KEY = "fk_vote_option";
+    private static final String USER_FOREIGN_KEY = "fk_vote_users";
+
     private final UserService userService;
     private final QuestionQueryService questionQueryService;
     private final OptionService optionService;
     private final VoteRepository voteRepository;
-    private final PlatformTransactionManager transactionManager;
+    private final QuestionStatsService questionStatsService;
+    private final VoteResultBroadcaster voteResultBroadcaster;
+    private final VoteWriteBehindProperties voteWriteBehindProperties;
+    private final VoteStreamRepository voteStreamRepository;
+    private final UserStatsService userStatsService;
 
     public VoteOptionResponse getVoteOptions(Long questionId, Long userId) {
-        QuestionEntity questionEntity = questionQueryService.findQuestionOrException(questionId);
-        Long votedOptionId = getVotedOptionId(questionId, userId);
-        boolean showVoteCount = canUserViewVoteResults(questionEntity, votedOptionId, userId);
+        // 질문과 사용자의 투표 기록을 한 번의 조회로 가져와 커넥션을 하나만 사용한다
+        QuestionVoteContext voteContext = voteRepository.findVoteContext(questionId, userId)
+                .orElseThrow(() -> new CustomException(QUESTION_NOT_FOUND));
+        boolean showVoteCount = canUserViewVoteResults(voteContext, userId);
         List<Option> options = optionService.findOptionsWithResultsByQuestionId(questionId, showVoteCount);
-        return VoteOptionResponse.of(votedOptionId, showVoteCount, options);
+        return VoteOptionResponse.of(voteContext.getVotedOptionId(), showVoteCount, options);
     }
 
+    public SseEmitter subscribeVoteResults(Long questionId, Long userId) {
+        VoteOptionResponse voteOptions = getVoteOptions(questionId, userId);
+        if (!voteOptions.isShowVoteCount()) {
+            throw new CustomException(FORBIDDEN, "투표 결과를 볼 수 없습니다");
+        }
+        return voteResultBroadcaster.subscribe(questionId, voteOptions.getOptions());
+    }
+
+    @Timed(value = SERVICE_LATENCY, extraTags = {"method", "VoteService.createVote"})
     @Transactional
     public void createVote(Long questionId, Long optionId, Long userId) {
         QuestionEntity questionEntity = questionQueryService.findQuestionOrException(questionId);
         ensureQuestionIsNotClosed(questionEntity);
         ensureQuestionerCannotVote(questionEntity, userId);
-        ensureUserHasNotVoted(questionId, userId);
-        OptionEntity optionEntity = optionService.findOptionOrException(optionId);
-        UserEntity userEntity = userService.findUserOrException(userId);
+        if (voteWriteBehindProperties.isEnabled()) {
+            appendVote(questionId, optionId, userId);
+            return;
+        }
+        // 옵션과 사용자는 조회하지 않고 참조만 사용하며, 존재 여부와 중복 투표는 insert 시 제약 조건으로 검증한다
+        OptionEntity optionEntity = optionService.getOptionReference(optionId);
+        UserEntity userEntity = userService.getUserReference(userId);
 
         saveVoteOrException(questionEntity, optionEntity, userEntity);
+        questionStatsService.increaseVoteCount(questionId);
+        optionService.increaseVoteCount(questionId, optionId);
+        userStatsService.increaseVoteCount(userId);
     }
 
     @Transactional
@@ -66,6 +100,12 @@ public class VoteService {
         } catch (RuntimeException e) {
             throw new CustomException(VOTE_NOT_FOUND);
         }
+        questionStatsService.decreaseVoteCount(questionId);
+        optionService.decreaseVoteCount(questionId, optionId);
+        userStatsService.decreaseVoteCount(userId);
+        if (voteWriteBehindProperties.isEnabled()) {
+            voteStreamRepository.removeVoter(questionId, userId);
+        }
     }
 
     @Transactional
@@ -73,16 +113,37 @@ public class VoteService {
         voteRepository.deleteAllByQuestionId(questionId);
     }
 
-    private Long getVotedOptionId(Long questionId, Long userId) {
-        return voteRepository.findByQuestionEntityIdAndUserEntityId(questionId, userId)
-                .map(VoteEntity::getOptionId)
-                .orElse(null);
+    // 중복 투표는 Redis 투표자 집합으로 검증하고, DB 저장은 VoteWriteBehindWriter 가 스트림을 읽어 일괄로 처리한다
+    private void appendVote(Long questionId, Long optionId, Long userId) {
+        if (!optionService.isOptionOfQuestion(questionId, optionId)) {
+            throw new CustomException(OPTION_NOT_FOUND);
+        }
+        if (!addVoter(questionId, userId)) {
+            throw new CustomException(DUPLICATE_VOTE);
+        }
+        try {
+            voteStreamRepository.append(questionId, optionId, userId);
+        } catch (RuntimeException e) {
+            voteStreamRepository.removeVoter(questionId, userId);
+            throw e;
+        }
+        optionService.increaseVoteCount(questionId, optionId);
+    }
+
+    private boolean addVoter(Long questionId, Long userId) {
+        return voteStreamRepository.addVoterIfInitialized(questionId, userId)
+                .orElseGet(() -> {
+                    // 투표자 집합이 없으면 DB 의 투표자로 초기화한 뒤 다시 시도한다
+                    voteStreamRepository.initializeVoters(questionId, voteRepository.findVoterIdsByQuestionId(questionId));
+                    return voteStreamRepository.addVoterIfInitialized(questionId, userId)
+                            .orElseThrow(() -> new CustomException(INTERNAL_SERVER_ERROR));
+                });
     }
 
-    private boolean canUserViewVoteResults(QuestionEntity questionEntity, Long votedOptionId, Long userId) {
-        return Objects.nonNull(votedOptionId) ||
-                LocalDateTime.now(KST).isAfter(questionEntity.getCloseAt()) ||
-                questionEntity.isCreatedBy(userId);
+    private boolean canUserViewVoteResults(QuestionVoteContext voteContext, Long userId) {
+        return Objects.nonNull(voteContext.getVotedOptionId()) ||
+                LocalDateTime.now(KST).isAfter(voteContext.getCloseAt()) ||
+                Objects.equals(voteContext.getQuestionerId(), userId);
     }
 
     private void ensureQuestionerCannotVote(QuestionEntity questionEntity, Long userId) {
@@ -97,27 +158,31 @@ public class VoteService {
         }
     }
 
-    private void ensureUserHasNotVoted(Long questionId, Long userId) {
-        if (voteRepository.existsByQuestionEntityIdAndUserEntityId(questionId, userId)) {
-            throw new CustomException(DUPLICATE_VOTE);
-        }
-    }
-
-    private boolean checkUserAlreadyVotedInNewTransaction(Long questionId, Long userId) {
-        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
-        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-        return Objects.equals(Boolean.TRUE, transactionTemplate.execute(status -> voteRepository.existsByQuestionEntityIdAndUserEntityId(questionId, userId)));
-    }
-
     private void saveVoteOrException(QuestionEntity questionEntity, OptionEntity optionEntity, UserEntity userEntity) {
         try {
             voteRepository.save(buildVoteEntity(questionEntity, optionEntity, userEntity));
         } catch (DataIntegrityViolationException ex) {
-            if (checkUserAlreadyVotedInNewTransaction(questionEntity.getId(), userEntity.getId())) {
-                throw new CustomException(DUPLICATE_VOTE);
-            }
-            throw ex;
+            throw translateVoteConstraintViolation(ex);
+        }
+    }
+
+    private RuntimeException translateVoteConstraintViolation(DataIntegrityViolationException ex) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(ex);
+        if (!(cause instanceof SQLException sqlException)) {
+            return ex;
+        }
+
+        String message = Objects.requireNonNullElse(sqlException.getMessage(), "");
+        if (sqlException.getErrorCode() == DUPLICATE_KEY_ERROR_CODE && message.contains(UNIQUE_VOTE_CONSTRAINT)) {
+            return new CustomException(DUPLICATE_VOTE);
+        }
+        if (sqlException.getErrorCode() == FOREIGN_KEY_ERROR_CODE && message.contains(OPTION_FOREIGN_KEY)) {
+            return new CustomException(OPTION_NOT_FOUND);
+        }
+        if (sqlException.getErrorCode() == FOREIGN_KEY_ERROR_CODE && message.contains(USER_FOREIGN_KEY)) {
+            return new CustomException(USER_NOT_FOUND);
         }
+        return ex;
     }
 
     private VoteEntity buildVoteEntity(QuestionEntity questionEntity, OptionEntity optionEntity, UserEntity userEntity) {
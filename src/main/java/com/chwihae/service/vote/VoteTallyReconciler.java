@@ -0,0 +1,65 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.config.redis.VoteTallyCacheRepository;
+import com.chwihae.domain.option.OptionRepository;
+import com.chwihae.dto.option.response.Option;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class VoteTallyReconciler {
+
+    private static final long RECONCILE_INTERVAL_MILLIS = 5 * 60 * 1000L;
+
+    private final VoteTallyCacheRepository voteTallyCacheRepository;
+    private final OptionRepository optionRepository;
+
+    // 투표 트랜잭션이 롤백되거나 캐시 갱신이 실패해서 생긴 차이를 DB 집계 결과로 보정한다
+    @Scheduled(fixedDelay = RECONCILE_INTERVAL_MILLIS, initialDelay = RECONCILE_INTERVAL_MILLIS)
+    public void reconcile() {
+        int repairedCount = 0;
+        for (Long questionId : voteTallyCacheRepository.findTrackedQuestionIds()) {
+            try {
+                if (reconcile(questionId)) {
+                    repairedCount++;
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to reconcile vote tallies of question {}", questionId, e);
+            }
+        }
+        if (repairedCount > 0) {
+            log.warn("Repaired vote tallies of {} questions", repairedCount);
+        }
+    }
+
+    public boolean reconcile(Long questionId) {
+        Map<Long, Long> cached = voteTallyCacheRepository.getTallies(questionId);
+        if (cached.isEmpty()) {
+            // 만료된 캐시는 다음 조회 때 다시 만들어진다
+            voteTallyCacheRepository.delete(questionId);
+            return false;
+        }
+
+        List<Option> options = optionRepository.findOptionsWithResultsByQuestionId(questionId, true);
+        if (options.isEmpty()) {
+            voteTallyCacheRepository.delete(questionId);
+            return true;
+        }
+        Map<Long, Long> aggregated = options.stream().collect(Collectors.toMap(Option::getId, Option::getVoteCount));
+        if (Objects.equals(cached, aggregated)) {
+            return false;
+        }
+
+        voteTallyCacheRepository.replaceTallies(questionId, options);
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.config.properties.VoteWriteBehindProperties;
+import com.chwihae.config.redis.VoteStreamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "vote-write-behind", name = "enabled", havingValue = "true")
+@Component
+public class VoteWriteBehindWriter {
+
+    private static final long CLAIM_INTERVAL_MILLIS = 60 * 1000L;
+    private static final Duration CLAIM_MIN_IDLE_TIME = Duration.ofMinutes(1);
+
+    private final VoteStreamRepository voteStreamRepository;
+    private final VoteWriteBehindProperties voteWriteBehindProperties;
+    private final VoteBatchService voteBatchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        voteStreamRepository.createConsumerGroup();
+    }
+
+    // 종료된 노드에 전달된 채 ACK 되지 않은 투표를 가져와 다음 flush 때 저장한다
+    @Scheduled(fixedDelay = CLAIM_INTERVAL_MILLIS, initialDelay = CLAIM_INTERVAL_MILLIS)
+    public void claimIdleScheduled() {
+        try {
+            int claimed = voteStreamRepository.claimIdle(CLAIM_MIN_IDLE_TIME, voteWriteBehindProperties.getBatchSize());
+            if (claimed > 0) {
+                log.info("Claimed {} buffered votes from idle consumers", claimed);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to claim idle buffered votes", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vote-write-behind.flush-interval-millis:50}")
+    public void flushScheduled() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // ACK 되지 않은 투표는 다음 실행 때 pending 목록에서 다시 읽는다
+            log.error("Failed to flush buffered votes", e);
+        }
+    }
+
+    public int flush() {
+        // 이전 실행에서 저장하지 못한 투표를 먼저 처리한다
+        List<MapRecord<String, Object, Object>> records = voteStreamRepository.read(voteWriteBehindProperties.getBatchSize(), true);
+        if (records.isEmpty()) {
+            records = voteStreamRepository.read(voteWriteBehindProperties.getBatchSize(), false);
+        }
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, BufferedVote> votes = new LinkedHashMap<>();
+        List<RecordId> recordIds = new ArrayList<>();
+        records.forEach(record -> {
+            BufferedVote vote = BufferedVote.from(record.getValue());
+            votes.putIfAbsent(vote.questionId() + ":" + vote.userId(), vote);
+            recordIds.add(record.getId());
+        });
+
+        // 이미 저장된 투표는 제외하므로 같은 투표를 다시 처리해도 한 번만 저장되고 통계도 한 번만 늘어난다
+        VoteBatchService.Result result = voteBatchService.saveAll(votes.values());
+        result.rejectedVotes().forEach(it -> {
+            // 질문이나 사용자가 삭제되어 저장할 수 없는 투표는 버리고, 캐시된 투표 수는 VoteTallyReconciler 가 보정한다
+            log.warn("Dropped buffered vote of user {} for question {} (option {})", it.userId(), it.questionId(), it.optionId());
+            voteStreamRepository.removeVoter(it.questionId(), it.userId());
+        });
+
+        voteStreamRepository.acknowledge(recordIds);
+        if (result.insertedCount() < votes.size()) {
+            log.debug("Skipped {} buffered votes already stored or rejected", votes.size() - result.insertedCount());
+        }
+        return result.insertedCount();
+    }
+}
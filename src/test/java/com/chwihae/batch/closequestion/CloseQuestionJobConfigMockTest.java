@@ -1,9 +1,6 @@
 package com.chwihae.batch.closequestion;
 
-import com.chwihae.domain.question.QuestionEntity;
-import com.chwihae.domain.question.QuestionRepository;
 import com.chwihae.infra.test.AbstractMockTest;
-import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -13,10 +10,11 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.ArrayList;
+import javax.sql.DataSource;
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -32,49 +30,32 @@ class CloseQuestionJobConfigMockTest extends AbstractMockTest {
     JobRepository jobRepository;
 
     @Mock
-    EntityManagerFactory entityManagerFactory;
+    DataSource dataSource;
 
     @Mock
     PlatformTransactionManager transactionManager;
 
-    @Mock
-    QuestionRepository questionRepository;
-
     @Test
-    @DisplayName("ItemWriter가 정상적으로 동작하면 저장을 수행한다")
-    void testSuccessfulItemWriter() throws Exception {
-        // given
-        List<QuestionEntity> questionEntities = new ArrayList<>();
-        QuestionEntity mockEntity = mock(QuestionEntity.class);
-        questionEntities.add(mockEntity);
-
-        Chunk<QuestionEntity> chunk = new Chunk<>(questionEntities);
-
-        ItemWriter<QuestionEntity> writer = closeQuestionJobConfig.closeQuestionItemWriter();
-
+    @DisplayName("closeQuestionItemWriter가 정상적으로 생성되어야 한다")
+    void testSuccessfulItemWriter() {
         // when
-        writer.write(chunk);
+        JdbcBatchItemWriter<Long> writer = closeQuestionJobConfig.closeQuestionItemWriter();
 
         // then
-        verify(questionRepository).saveAll(any());
+        assertThat(writer).isNotNull();
     }
 
     @Test
     @DisplayName("closeQuestionItemWrite가 DB 저장 중 문제가 발생하면 예외가 발생한다")
     void testFailedItemWriter() throws Exception {
         // given
-        List<QuestionEntity> questionEntities = new ArrayList<>();
-        QuestionEntity mockEntity = mock(QuestionEntity.class);
-        questionEntities.add(mockEntity);
-
-        Chunk<QuestionEntity> chunk = new Chunk<>(questionEntities);
-
-        ItemWriter<QuestionEntity> writer = mock(ItemWriter.class);
+        Chunk<Long> chunk = new Chunk<>(List.of(1L));
+        ItemWriter<Long> writer = mock(ItemWriter.class);
 
         doThrow(new RuntimeException()).when(writer).write(any());
 
         //when //then
-        assertThatThrownBy(() -> writer.write(any()))
+        assertThatThrownBy(() -> writer.write(chunk))
                 .isInstanceOf(RuntimeException.class);
     }
 
@@ -82,17 +63,17 @@ class CloseQuestionJobConfigMockTest extends AbstractMockTest {
     @DisplayName("closeQuestionItemReader가 정상적으로 동작해야 한다")
     void testSuccessfulItemReader() {
         // given
-        JpaPagingItemReader<QuestionEntity> reader = closeQuestionJobConfig.closeQuestionItemReader();
+        JdbcCursorItemReader<Long> reader = closeQuestionJobConfig.closeQuestionItemReader();
 
         //when //then
         assertThat(reader).isNotNull();
     }
 
     @Test
-    @DisplayName("closeQuestionItemReader에서 EntityManager 생성 중 문제가 발생하면 예외가 발생한다")
+    @DisplayName("closeQuestionItemReader를 열지 않고 읽으면 예외가 발생한다")
     void testFailedItemReader() {
         // given
-        JpaPagingItemReader<QuestionEntity> reader = closeQuestionJobConfig.closeQuestionItemReader();
+        JdbcCursorItemReader<Long> reader = closeQuestionJobConfig.closeQuestionItemReader();
 
         //when //then
         assertThatThrownBy(reader::read)
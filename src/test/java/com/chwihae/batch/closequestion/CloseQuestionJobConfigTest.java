@@ -1,6 +1,7 @@
 package com.chwihae.batch.closequestion;
 
 import com.chwihae.domain.question.QuestionEntity;
+import com.chwihae.domain.question.QuestionStatus;
 import com.chwihae.domain.question.QuestionType;
 import com.chwihae.domain.user.UserEntity;
 import com.chwihae.infra.fixture.UserEntityFixture;
@@ -23,6 +24,7 @@ class CloseQuestionJobConfigTest extends AbstractBatchTest {
     @AfterEach
     void tearDown() {
         questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
         userRepository.physicallyDeleteAll();
     }
 
@@ -44,6 +46,26 @@ class CloseQuestionJobConfigTest extends AbstractBatchTest {
 
         //then
         Assertions.assertThat(jobExecution.getExitStatus()).isEqualByComparingTo(ExitStatus.COMPLETED);
+        Assertions.assertThat(questionRepository.findAll())
+                .extracting("status")
+                .containsOnly(QuestionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("마감 시간이 지나지 않은 질문은 마감 처리하지 않는다")
+    void closeQuestionStep_skipsNotExpiredQuestions() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        QuestionEntity expired = questionRepository.save(createQuestion(userEntity, LocalDateTime.now(KST).minusDays(1)));
+        QuestionEntity notExpired = questionRepository.save(createQuestion(userEntity, LocalDateTime.now(KST).plusDays(1)));
+
+        //when
+        JobExecution jobExecution = jobLauncher.run(closeQuestionJob, getJobParameters());
+
+        //then
+        Assertions.assertThat(jobExecution.getExitStatus()).isEqualByComparingTo(ExitStatus.COMPLETED);
+        Assertions.assertThat(questionRepository.findById(expired.getId()).get().getStatus()).isEqualTo(QuestionStatus.COMPLETED);
+        Assertions.assertThat(questionRepository.findById(notExpired.getId()).get().getStatus()).isEqualTo(QuestionStatus.IN_PROGRESS);
     }
 
     public QuestionEntity createQuestion(UserEntity userEntity, LocalDateTime closeAt) {
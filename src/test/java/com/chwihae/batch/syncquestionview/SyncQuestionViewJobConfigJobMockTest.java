@@ -1,7 +1,6 @@
 package com.chwihae.batch.syncquestionview;
 
 import com.chwihae.config.redis.QuestionViewCacheRepository;
-import com.chwihae.domain.question.QuestionViewRepository;
 import com.chwihae.infra.test.AbstractMockTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +10,7 @@ import org.mockito.Mock;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 class SyncQuestionViewJobConfigJobMockTest extends AbstractMockTest {
@@ -26,10 +25,7 @@ class SyncQuestionViewJobConfigJobMockTest extends AbstractMockTest {
     JobRepository jobRepository;
 
     @Mock
-    RedisTemplate<String, Long> questionViewRedisTemplate;
-
-    @Mock
-    QuestionViewRepository questionViewRepository;
+    JdbcTemplate jdbcTemplate;
 
     @Mock
     QuestionViewCacheRepository questionViewCacheRepository;
@@ -47,4 +43,4 @@ class SyncQuestionViewJobConfigJobMockTest extends AbstractMockTest {
         Assertions.assertThat(job).isNotNull();
         Assertions.assertThat(job.getName()).isEqualTo("syncQuestionViewJob");
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,6 @@
 package com.chwihae.batch.syncquestionview;
 
 import com.chwihae.config.redis.QuestionViewCacheRepository;
-import com.chwihae.domain.question.QuestionEntity;
-import com.chwihae.domain.question.QuestionViewEntity;
-import com.chwihae.domain.question.QuestionViewRepository;
 import com.chwihae.dto.question.response.QuestionViewResponse;
 import com.chwihae.infra.test.AbstractMockTest;
 import org.assertj.core.api.Assertions;
@@ -15,9 +12,7 @@ import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemReader;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
@@ -25,7 +20,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class SyncQuestionViewJobConfigStepMockTest extends AbstractMockTest {
@@ -37,13 +33,7 @@ class SyncQuestionViewJobConfigStepMockTest extends AbstractMockTest {
     JobRepository mockJobRepository;
 
     @Mock
-    RedisTemplate<String, Long> mockQuestionViewRedisTemplate;
-
-    @Mock
-    SyncQuestionViewItemReader syncQuestionViewItemReader;
-
-    @Mock
-    QuestionViewRepository mockQuestionViewRepository;
+    JdbcTemplate mockJdbcTemplate;
 
     @Mock
     QuestionViewCacheRepository mockQuestionViewCacheRepository;
@@ -73,66 +63,71 @@ class SyncQuestionViewJobConfigStepMockTest extends AbstractMockTest {
     }
 
     @Test
-    @DisplayName("캐시에서 데이터를 읽는 도중 실패하면 예외가 발생한다")
-    void read_whenCachingError_throwException() throws Exception {
+    @DisplayName("변경된 질문 아이디만 꺼내어 조회 수를 읽는다")
+    void read_onlyDirtyQuestions() throws Exception {
         //given
-        final int chunkSize = SyncQuestionViewJobConfig.CHUNK_SIZE;
-        Cursor<String> mockCursor = mock(Cursor.class);
-        when(mockCursor.hasNext()).thenThrow(new RuntimeException("Redis read error"));
-        when(mockQuestionViewRedisTemplate.scan(any(ScanOptions.class))).thenReturn(mockCursor);
+        when(mockQuestionViewCacheRepository.countDirtyQuestionIds()).thenReturn(2L);
+        when(mockQuestionViewCacheRepository.popDirtyQuestionIds(2L)).thenReturn(List.of(1L, 2L));
+        when(mockQuestionViewCacheRepository.getViewCounts(List.of(1L, 2L)))
+                .thenReturn(new ArrayList<>(List.of(new QuestionViewResponse(1L, 10L), new QuestionViewResponse(2L, 20L))));
+        SyncQuestionViewItemReader itemReader = new SyncQuestionViewItemReader(mockQuestionViewCacheRepository, SyncQuestionViewJobConfig.CHUNK_SIZE);
 
-        SyncQuestionViewItemReader itemReader = new SyncQuestionViewItemReader(mockQuestionViewRedisTemplate, mockQuestionViewCacheRepository, chunkSize);
+        //when
+        List<QuestionViewResponse> items = new ArrayList<>();
+        QuestionViewResponse item;
+        while ((item = itemReader.read()) != null) {
+            items.add(item);
+        }
+
+        //then
+        Assertions.assertThat(items)
+                .extracting("questionId", "viewCount")
+                .containsExactly(tuple(1L, 10L), tuple(2L, 20L));
+        verify(mockQuestionViewCacheRepository, times(1)).popDirtyQuestionIds(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시에서 데이터를 읽는 도중 실패하면 꺼낸 질문 아이디를 되돌리고 예외가 발생한다")
+    void read_whenCachingError_throwException() throws Exception {
+        //given
+        when(mockQuestionViewCacheRepository.countDirtyQuestionIds()).thenReturn(1L);
+        when(mockQuestionViewCacheRepository.popDirtyQuestionIds(1L)).thenReturn(List.of(1L));
+        when(mockQuestionViewCacheRepository.getViewCounts(anyList())).thenThrow(new RuntimeException("Redis read error"));
+        SyncQuestionViewItemReader itemReader = new SyncQuestionViewItemReader(mockQuestionViewCacheRepository, SyncQuestionViewJobConfig.CHUNK_SIZE);
 
         //when //then
         Assertions.assertThatThrownBy(itemReader::read)
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Redis read error");
+        verify(mockQuestionViewCacheRepository).markDirty(List.of(1L));
     }
 
     @Test
-    @DisplayName("캐싱되어 있는 데이터를 DB에 저장하는 도중 실패하면 예외가 발생한다")
+    @DisplayName("캐싱되어 있는 데이터를 DB에 저장하는 도중 실패하면 질문 아이디를 되돌리고 예외가 발생한다")
     void write_whenDBExceptionOccur_throwException() {
         // Given
-        Long testQuestionId = 1L;
-        Long viewCount = 5L;
-        QuestionViewResponse cachedResponse = new QuestionViewResponse(testQuestionId, viewCount);
-        List<QuestionViewResponse> items = Collections.singletonList(cachedResponse);
-
-        doThrow(new RuntimeException("Database write error")).when(mockQuestionViewRepository).saveAll(anyList());
+        List<QuestionViewResponse> items = Collections.singletonList(new QuestionViewResponse(1L, 5L));
+        when(mockJdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new RuntimeException("Database write error"));
 
         // When & Then
         Assertions.assertThatThrownBy(() -> syncQuestionViewJobConfig.syncQuestionViewItemWriter().write(new Chunk<>(items)))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Database write error");
+        verify(mockQuestionViewCacheRepository).markDirty(List.of(1L));
     }
 
     @Test
-    @DisplayName("캐싱되어있는 질문 조회수 데이터 수가 청크 사이즈보다 작을 때 DB에 올바르게 동기화된다")
-    void batch_whenChunkSizeLessThan20() throws Exception {
-        // Given
-        final int size = SyncQuestionViewJobConfig.CHUNK_SIZE - 1;
-        List<QuestionViewResponse> chunk = createMockQuestionView(size);
-
-        // When
-        syncQuestionViewJobConfig.syncQuestionViewItemWriter().write(new Chunk<>(chunk));
-
-        // Then
-        verify(mockQuestionViewRepository, times(1)).saveAll(anyList());
-        assertThat(chunk).hasSize(19);
-    }
-
-    @Test
-    @DisplayName("캐싱되어있는 질문 조회수 데이터 수가 청크 사이즈보다 클 때 DB에 올바르게 동기화된다")
-    void batch_whenChunkSizeMoreThenChuckSize() throws Exception {
+    @DisplayName("청크 단위로 질문 조회 테이블과 질문 통계 테이블을 한 번씩 업데이트한다")
+    void write_updatesOncePerTable() throws Exception {
         // Given
-        final int size = SyncQuestionViewJobConfig.CHUNK_SIZE + 1;
-        List<QuestionViewResponse> chunk = createMockQuestionView(size);
+        List<QuestionViewResponse> chunk = createMockQuestionView(SyncQuestionViewJobConfig.CHUNK_SIZE);
 
         // When
         syncQuestionViewJobConfig.syncQuestionViewItemWriter().write(new Chunk<>(chunk));
 
         // Then
-        verify(mockQuestionViewRepository, times(1)).saveAll(anyList());
+        verify(mockJdbcTemplate, times(1)).update(startsWith("UPDATE question_view "), any(Object[].class));
+        verify(mockJdbcTemplate, times(1)).update(startsWith("UPDATE question_stats "), any(Object[].class));
     }
 
     @Test
@@ -142,52 +137,19 @@ class SyncQuestionViewJobConfigStepMockTest extends AbstractMockTest {
         syncQuestionViewJobConfig.syncQuestionViewItemWriter().write(new Chunk<>(Collections.emptyList()));
 
         // Then
-        verify(mockQuestionViewRepository, never()).saveAll(anyList());
+        verify(mockJdbcTemplate, never()).update(anyString(), any(Object[].class));
     }
 
     @Test
-    @DisplayName("캐시에서 읽어온 조회수가 DB의 조회수보다 클 때만 DB에 반영된다")
-    void write_onlyIncrementsViewCount() throws Exception {
-        // Given
-        Long testQuestionId = 1L;
-        Long initialViewCount = 5L;
-        Long newViewCount = 10L;
-
-        QuestionEntity questionEntity = mock(QuestionEntity.class);
-        when(questionEntity.getId()).thenReturn(testQuestionId);
-        QuestionViewResponse cachedResponse = new QuestionViewResponse(testQuestionId, newViewCount);
-        QuestionViewEntity existingEntity = QuestionViewEntity.builder().questionEntity(questionEntity).build();
-
-        when(mockQuestionViewRepository.findByQuestionEntityIds(anyList())).thenReturn(Collections.singletonList(existingEntity));
-
-        // When
-        syncQuestionViewJobConfig.syncQuestionViewItemWriter().write(new Chunk<>(Collections.singletonList(cachedResponse)));
-
-        // Then
-        assertThat(existingEntity.getViewCount()).isEqualTo(newViewCount);
-    }
-
-    @Test
-    @DisplayName("캐시에서 읽어온 조회수가 DB의 조회수보다 작거나 같을 때는 DB에 반영되지 않는다")
-    void write_doesNotDecrementOrKeepSameViewCount() throws Exception {
-        // Given
-        Long testQuestionId = 1L;
-        Long initialViewCount = 10L;
-        Long newViewCount = 5L;
-
-        QuestionEntity questionEntity = mock(QuestionEntity.class);
-        when(questionEntity.getId()).thenReturn(testQuestionId);
-        QuestionViewResponse cachedResponse = new QuestionViewResponse(testQuestionId, newViewCount);
-        QuestionViewEntity existingEntity = QuestionViewEntity.builder().questionEntity(questionEntity).build();
-        existingEntity.setViewCount(initialViewCount);
-
-        when(mockQuestionViewRepository.findByQuestionEntityIds(anyList())).thenReturn(Collections.singletonList(existingEntity));
-
-        // When
-        syncQuestionViewJobConfig.syncQuestionViewItemWriter().write(new Chunk<>(Collections.singletonList(cachedResponse)));
+    @DisplayName("조회 수는 DB의 조회수보다 클 때만 반영되도록 업데이트 쿼리를 생성한다")
+    void buildUpdateSql_keepsGreaterViewCount() throws Exception {
+        //when
+        String sql = SyncQuestionViewItemWriter.buildUpdateSql("question_view", 2);
 
-        // Then
-        assertThat(existingEntity.getViewCount()).isEqualTo(initialViewCount);
+        //then
+        Assertions.assertThat(sql)
+                .isEqualTo("UPDATE question_view SET view_count = GREATEST(view_count, CASE id_question WHEN ? THEN ? WHEN ? THEN ? ELSE view_count END) " +
+                        "WHERE id_question IN (?, ?) AND deleted_at IS NULL");
     }
 
     private List<QuestionViewResponse> createMockQuestionView(int size) {
@@ -22,13 +22,15 @@ class SyncQuestionViewJobConfigTest extends AbstractBatchTest {
     @AfterEach
     void tearDown() {
         questionViewCacheRepository.clear();
+        questionStatsRepository.physicallyDeleteAll();
         questionViewRepository.physicallyDeleteAll();
         questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
         userRepository.physicallyDeleteAll();
     }
 
     @Test
-    @DisplayName("여러 청크를 걸쳐서 캐싱되어 있는 질문 조회수를 DB에 동기화한다")
+    @DisplayName("여러 청크를 걸쳐서 변경된 질문 조회수를 DB에 동기화한다")
     void syncQuestionViewStep() throws Exception {
         // given
         final int totalItems = SyncQuestionViewJobConfig.CHUNK_SIZE * 2 + 5; // 2.5 청크의 데이터 생성
@@ -47,6 +49,7 @@ class SyncQuestionViewJobConfigTest extends AbstractBatchTest {
         IntStream.range(0, totalItems).forEach(index -> {
             questionViewCacheRepository.setViewCount(questionEntityList.get(index).getId(), (long) index);
         });
+        questionViewCacheRepository.markDirty(questionEntityList.stream().map(QuestionEntity::getId).toList());
 
         // when: job 실행
         JobExecution jobExecution = jobLauncher.run(syncQuestionViewJob, getJobParameters());
@@ -60,4 +63,21 @@ class SyncQuestionViewJobConfigTest extends AbstractBatchTest {
             Assertions.assertThat(viewCounts).contains((long) index);
         });
     }
+
+    @Test
+    @DisplayName("변경되지 않은 질문의 조회수는 동기화하지 않는다")
+    void syncQuestionViewStep_skipsNotDirtyQuestions() throws Exception {
+        // given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        QuestionEntity questionEntity = questionRepository.save(QuestionEntityFixture.of(userEntity));
+        questionViewRepository.save(QuestionViewFixture.of(questionEntity));
+        questionViewCacheRepository.setViewCount(questionEntity.getId(), 10L);
+
+        // when
+        JobExecution jobExecution = jobLauncher.run(syncQuestionViewJob, getJobParameters());
+
+        // then
+        Assertions.assertThat(jobExecution.getExitStatus()).isEqualByComparingTo(ExitStatus.COMPLETED);
+        Assertions.assertThat(questionViewRepository.findViewCountByQuestionEntityId(questionEntity.getId())).hasValue(0L);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.chwihae.batch.syncquestionview;
+
+import com.chwihae.config.redis.QuestionViewCacheRepository;
+import com.chwihae.infra.test.AbstractMockTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+
+import static org.mockito.Mockito.*;
+
+class SyncQuestionViewSchedulerTest extends AbstractMockTest {
+
+    @InjectMocks
+    SyncQuestionViewScheduler syncQuestionViewScheduler;
+
+    @Mock
+    QuestionViewCacheRepository questionViewCacheRepository;
+
+    @Mock
+    JobLauncher jobLauncher;
+
+    @Mock
+    Job syncQuestionViewJob;
+
+    @DisplayName("동기화할 조회 수가 있으면 배치 작업을 실행한다")
+    @Test
+    void syncQuestionViewCount_whenDirtyQuestionsExist_executeBatch() throws JobExecutionException {
+        // given
+        when(questionViewCacheRepository.countDirtyQuestionIds()).thenReturn(3L);
+
+        // when
+        syncQuestionViewScheduler.syncQuestionViewCount();
+
+        // then
+        verify(jobLauncher).run(eq(syncQuestionViewJob), any(JobParameters.class));
+    }
+
+    @DisplayName("동기화할 조회 수가 없으면 배치 작업을 실행하지 않는다")
+    @Test
+    void syncQuestionViewCount_whenNoDirtyQuestions_doNotExecuteBatch() throws JobExecutionException {
+        // given
+        when(questionViewCacheRepository.countDirtyQuestionIds()).thenReturn(0L);
+
+        // when
+        syncQuestionViewScheduler.syncQuestionViewCount();
+
+        // then
+        verify(jobLauncher, times(0)).run(eq(syncQuestionViewJob), any(JobParameters.class));
+    }
+}
@@ -0,0 +1,105 @@
+package com.chwihae.config.async;
+
+import com.chwihae.exception.CustomException;
+import com.chwihae.exception.CustomExceptionError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class ParallelQueryExecutorTest {
+
+    ThreadPoolTaskExecutor queryTaskExecutor;
+    ParallelQueryExecutor parallelQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        queryTaskExecutor = new ThreadPoolTaskExecutor();
+        queryTaskExecutor.setCorePoolSize(2);
+        queryTaskExecutor.setThreadNamePrefix("QueryExecutor-");
+        queryTaskExecutor.initialize();
+        parallelQueryExecutor = new ParallelQueryExecutor(queryTaskExecutor, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("두 조회를 서로 다른 스레드에서 실행한 뒤 결과를 합친다")
+    void fork_runsFirstOnQueryExecutorAndCombinesResults() throws Exception {
+        //given
+        String callerThreadName = Thread.currentThread().getName();
+
+        //when
+        String result = parallelQueryExecutor.fork("test",
+                () -> Thread.currentThread().getName(),
+                () -> Thread.currentThread().getName(),
+                (first, second) -> first + "," + second);
+
+        //then
+        Assertions.assertThat(result).startsWith("QueryExecutor-").endsWith("," + callerThreadName);
+        Assertions.assertThat(parallelQueryExecutor.getForkCount("test")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("병렬로 실행한 조회에서 발생한 예외를 그대로 던진다")
+    void fork_whenFirstFails_throwsCause() throws Exception {
+        //when //then
+        Assertions.assertThatThrownBy(() -> parallelQueryExecutor.fork("test",
+                        () -> {
+                            throw new CustomException(CustomExceptionError.QUESTION_NOT_FOUND);
+                        },
+                        () -> 1L,
+                        (first, second) -> second))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(CustomExceptionError.QUESTION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("호출 스레드에서 실행한 조회에서 예외가 발생하면 그대로 던진다")
+    void fork_whenSecondFails_throwsException() throws Exception {
+        //when //then
+        Assertions.assertThatThrownBy(() -> parallelQueryExecutor.fork("test",
+                        () -> 1L,
+                        () -> {
+                            throw new CustomException(CustomExceptionError.VOTE_NOT_FOUND);
+                        },
+                        (first, second) -> first))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(CustomExceptionError.VOTE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("병렬로 실행한 조회가 제한 시간을 넘기면 실행 중인 스레드를 인터럽트한다")
+    void fork_whenFirstTimesOut_interruptsRunningQuery() throws Exception {
+        //given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        //when
+        Assertions.assertThatThrownBy(() -> parallelQueryExecutor.fork("test",
+                        () -> {
+                            try {
+                                TimeUnit.SECONDS.sleep(10);
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                            return 1L;
+                        },
+                        () -> 1L,
+                        (first, second) -> first))
+                .isInstanceOf(CustomException.class);
+
+        //then
+        Assertions.assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,43 @@
+package com.chwihae.config.async;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("JDK 21 이상에서는 가상 스레드에서 작업을 실행한다")
+    void newTaskExecutor_runsOnVirtualThread() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.isSupported());
+
+        //given
+        CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+
+        //when
+        VirtualThreads.newTaskExecutor("VirtualTest-").execute(() -> {
+            try {
+                isVirtual.complete((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+            } catch (ReflectiveOperationException ex) {
+                isVirtual.completeExceptionally(ex);
+            }
+        });
+
+        //then
+        Assertions.assertThat(isVirtual.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("JDK 21 미만에서는 가상 스레드 팩토리를 만들 때 예외가 발생한다")
+    void threadFactory_unsupportedJdk_throwsException() throws Exception {
+        Assumptions.assumeFalse(VirtualThreads.isSupported());
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> VirtualThreads.threadFactory("VirtualTest-"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.chwihae.config.metrics;
+
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.chwihae.config.metrics.MetricsConfig.CACHE_REQUESTS;
+
+class MetricsConfigTest extends AbstractIntegrationTest {
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        questionViewCacheRepository.clear();
+    }
+
+    @Test
+    @DisplayName("스레드 풀마다 대기열 깊이 게이지를 등록한다")
+    void executorMetrics_registersQueueDepthGauges() throws Exception {
+        //when //then
+        Assertions.assertThat(meterRegistry.find("executor.queue.depth").tag("name", "queryTaskExecutor").gauge()).isNotNull();
+        Assertions.assertThat(meterRegistry.find("executor.queue.depth").tag("name", "asyncTaskExecutor").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("조회 수 캐시를 조회하면 적중과 미스를 각각 집계한다")
+    void questionViewCache_recordsHitsAndMisses() throws Exception {
+        //given
+        long cachedQuestionId = 1L;
+        long notCachedQuestionId = 2L;
+        questionViewCacheRepository.setViewCount(cachedQuestionId, 10L);
+        double hitsBefore = count("hit");
+        double missesBefore = count("miss");
+
+        //when
+        questionViewCacheRepository.getViewCount(cachedQuestionId);
+        questionViewCacheRepository.getViewCount(notCachedQuestionId);
+
+        //then
+        Assertions.assertThat(count("hit") - hitsBefore).isEqualTo(1.0);
+        Assertions.assertThat(count("miss") - missesBefore).isEqualTo(1.0);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(CACHE_REQUESTS, "cache", "question_view", "tier", "redis", "result", result).count();
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -144,6 +145,64 @@ class QuestionViewCacheRepositoryTest extends AbstractIntegrationTest {
                 );
     }
 
+    @Test
+    @DisplayName("캐시에 없는 질문 아이디는 조회 수 리스트에서 제외된다")
+    void getViewCounts_excludesMissingKeys() throws Exception {
+        //given
+        Long cachedQuestionId = 6L;
+        long cachedViewCount = 60L;
+        Long notCachedQuestionId = 7L;
+        questionViewCacheRepository.setViewCount(cachedQuestionId, cachedViewCount);
+
+        //when
+        List<QuestionViewResponse> response = questionViewCacheRepository.getViewCounts(List.of(cachedQuestionId, notCachedQuestionId, cachedQuestionId));
+
+        //then
+        Assertions.assertThat(response)
+                .hasSize(1)
+                .extracting("questionId", "viewCount")
+                .containsOnly(tuple(cachedQuestionId, cachedViewCount));
+    }
+
+    @Test
+    @DisplayName("여러 질문의 조회 수를 한 번에 캐시에 저장한다")
+    void setViewCounts() throws Exception {
+        //given
+        List<QuestionViewResponse> views = List.of(
+                new QuestionViewResponse(8L, 80L),
+                new QuestionViewResponse(9L, 90L)
+        );
+
+        //when
+        questionViewCacheRepository.setViewCounts(views);
+
+        //then
+        Assertions.assertThat(questionViewCacheRepository.getViewCounts(List.of(8L, 9L)))
+                .extracting("questionId", "viewCount")
+                .containsOnly(
+                        tuple(8L, 80L),
+                        tuple(9L, 90L)
+                );
+        Assertions.assertThat(questionViewRedisTemplate.getExpire(questionViewCacheRepository.getKey(8L))).isPositive();
+    }
+
+    @Test
+    @DisplayName("캐싱된 질문의 조회 수는 한 번에 증가시키고 캐싱되지 않은 질문 아이디를 반환한다")
+    void incrementViewCountsIfExist() throws Exception {
+        //given
+        Long cachedQuestionId = 10L;
+        Long notCachedQuestionId = 11L;
+        questionViewCacheRepository.setViewCount(cachedQuestionId, 100L);
+
+        //when
+        List<Long> missedIds = questionViewCacheRepository.incrementViewCountsIfExist(Map.of(cachedQuestionId, 5L, notCachedQuestionId, 3L));
+
+        //then
+        Assertions.assertThat(missedIds).containsExactly(notCachedQuestionId);
+        Assertions.assertThat(questionViewCacheRepository.getViewCount(cachedQuestionId)).hasValue(105L);
+        Assertions.assertThat(questionViewCacheRepository.getViewCount(notCachedQuestionId)).isEmpty();
+    }
+
     @Test
     @DisplayName("캐싱된 질문 아이디가 없으면 빈 배열을 반환한다")
     void getViewCounts_returnEmptyList() throws Exception {
@@ -47,4 +47,73 @@ class UserContextCacheRepositoryTest extends AbstractIntegrationTest {
         // then
         Assertions.assertThat(retrievedUserContext).isEmpty();
     }
+
+    @Test
+    @DisplayName("로컬 캐시에 저장된 사용자 컨텍스트는 Redis 를 조회하지 않고 가져온다")
+    void getUserContext_withLocalCache_returnsFromLocalCache() {
+        // given
+        Long userId = 3L;
+        UserContext userContext = new UserContext(userId, "email@example.com", null, null, null);
+        userContextCacheRepository.setUserContext(userContext);
+        long hitCount = userContextCacheRepository.getLocalCacheStats().hitCount();
+
+        // when
+        Optional<UserContext> retrievedUserContext = userContextCacheRepository.getUserContext(userId);
+
+        // then
+        Assertions.assertThat(retrievedUserContext).isPresent();
+        Assertions.assertThat(userContextCacheRepository.getLocalCacheStats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에서 제거된 사용자 컨텍스트는 Redis 에서 가져온다")
+    void getUserContext_afterEvictLocal_returnsFromRedis() {
+        // given
+        Long userId = 4L;
+        UserContext userContext = new UserContext(userId, "email@example.com", null, null, null);
+        userContextCacheRepository.setUserContext(userContext);
+        userContextCacheRepository.evictLocal(userId);
+        long missCount = userContextCacheRepository.getLocalCacheStats().missCount();
+
+        // when
+        Optional<UserContext> retrievedUserContext = userContextCacheRepository.getUserContext(userId);
+
+        // then
+        Assertions.assertThat(retrievedUserContext).isPresent();
+        Assertions.assertThat(userContextCacheRepository.getLocalCacheStats().missCount()).isEqualTo(missCount + 1);
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 무효화 메시지로는 로컬 캐시를 제거하지 않는다")
+    void handleInvalidation_fromSelf_keepsLocalCache() {
+        // given
+        Long userId = 5L;
+        UserContext userContext = new UserContext(userId, "email@example.com", null, null, null);
+        userContextCacheRepository.setUserContext(userContext);
+        long hitCount = userContextCacheRepository.getLocalCacheStats().hitCount();
+
+        // when
+        userContextCacheRepository.handleInvalidation(userContextCacheRepository.getNodeId() + ":" + userId);
+        userContextCacheRepository.getUserContext(userId);
+
+        // then
+        Assertions.assertThat(userContextCacheRepository.getLocalCacheStats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 발행한 무효화 메시지를 받으면 로컬 캐시를 제거한다")
+    void handleInvalidation_fromOtherNode_evictsLocalCache() {
+        // given
+        Long userId = 6L;
+        UserContext userContext = new UserContext(userId, "email@example.com", null, null, null);
+        userContextCacheRepository.setUserContext(userContext);
+        long missCount = userContextCacheRepository.getLocalCacheStats().missCount();
+
+        // when
+        userContextCacheRepository.handleInvalidation("other-node:" + userId);
+        userContextCacheRepository.getUserContext(userId);
+
+        // then
+        Assertions.assertThat(userContextCacheRepository.getLocalCacheStats().missCount()).isEqualTo(missCount + 1);
+    }
 }
@@ -0,0 +1,52 @@
+package com.chwihae.config.redis;
+
+import com.chwihae.domain.user.UserLevel;
+import com.chwihae.dto.user.UserStatisticsResponse;
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserStatsCacheRepositoryTest extends AbstractIntegrationTest {
+
+    private static final long USER_ID = 1L;
+
+    @AfterEach
+    void tearDown() {
+        userStatsCacheRepository.clear();
+    }
+
+    @Test
+    @DisplayName("조회 전에 읽은 버전이 그대로면 사용자 통계를 캐시에 저장한다")
+    void setIfVersionMatches_whenVersionNotChanged_sets() throws Exception {
+        //given
+        long version = userStatsCacheRepository.getVersion(USER_ID);
+
+        //when
+        boolean stored = userStatsCacheRepository.setIfVersionMatches(USER_ID, version, UserStatisticsResponse.of(UserLevel.BACHELOR, 2, 3));
+
+        //then
+        Assertions.assertThat(stored).isTrue();
+        Assertions.assertThat(userStatsCacheRepository.get(USER_ID))
+                .hasValueSatisfying(it -> {
+                    Assertions.assertThat(it.getCommentCount()).isEqualTo(2);
+                    Assertions.assertThat(it.getVoteCount()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    @DisplayName("조회하는 사이에 캐시가 지워졌으면 이전에 읽은 사용자 통계를 캐시에 저장하지 않는다")
+    void setIfVersionMatches_whenDeletedAfterRead_doesNotSet() throws Exception {
+        //given
+        long version = userStatsCacheRepository.getVersion(USER_ID);
+        userStatsCacheRepository.delete(USER_ID);
+
+        //when
+        boolean stored = userStatsCacheRepository.setIfVersionMatches(USER_ID, version, UserStatisticsResponse.of(UserLevel.BACHELOR, 0, 0));
+
+        //then
+        Assertions.assertThat(stored).isFalse();
+        Assertions.assertThat(userStatsCacheRepository.get(USER_ID)).isEmpty();
+    }
+}
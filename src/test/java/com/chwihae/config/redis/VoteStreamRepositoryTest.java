@@ -0,0 +1,90 @@
+package com.chwihae.config.redis;
+
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+
+import java.util.List;
+import java.util.Optional;
+
+class VoteStreamRepositoryTest extends AbstractIntegrationTest {
+
+    private static final long QUESTION_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        voteStreamRepository.deleteVoters(QUESTION_ID);
+        voteStreamRepository.createConsumerGroup();
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteStreamRepository.deleteVoters(QUESTION_ID);
+        List<RecordId> recordIds = voteStreamRepository.read(100, true).stream().map(MapRecord::getId).toList();
+        voteStreamRepository.acknowledge(recordIds);
+    }
+
+    @Test
+    @DisplayName("투표자 집합이 초기화되지 않았으면 빈 값을 반환한다")
+    void addVoterIfInitialized_whenNotInitialized_returnsEmpty() throws Exception {
+        //when
+        Optional<Boolean> added = voteStreamRepository.addVoterIfInitialized(QUESTION_ID, 10L);
+
+        //then
+        Assertions.assertThat(added).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 투표한 사용자는 투표자 집합에 다시 추가되지 않는다")
+    void addVoterIfInitialized_whenAlreadyVoted_returnsFalse() throws Exception {
+        //given
+        voteStreamRepository.initializeVoters(QUESTION_ID, List.of(10L));
+
+        //when
+        Optional<Boolean> existingVoter = voteStreamRepository.addVoterIfInitialized(QUESTION_ID, 10L);
+        Optional<Boolean> newVoter = voteStreamRepository.addVoterIfInitialized(QUESTION_ID, 11L);
+
+        //then
+        Assertions.assertThat(existingVoter).contains(false);
+        Assertions.assertThat(newVoter).contains(true);
+    }
+
+    @Test
+    @DisplayName("투표자를 제거하면 다시 투표할 수 있다")
+    void removeVoter_allowsVoteAgain() throws Exception {
+        //given
+        voteStreamRepository.initializeVoters(QUESTION_ID, List.of(10L));
+
+        //when
+        voteStreamRepository.removeVoter(QUESTION_ID, 10L);
+
+        //then
+        Assertions.assertThat(voteStreamRepository.addVoterIfInitialized(QUESTION_ID, 10L)).contains(true);
+    }
+
+    @Test
+    @DisplayName("스트림에 추가한 투표는 ACK 전까지 pending 목록에서 다시 읽을 수 있다")
+    void append_andRead_untilAcknowledged() throws Exception {
+        //given
+        RecordId recordId = voteStreamRepository.append(QUESTION_ID, 20L, 10L);
+
+        //when
+        List<MapRecord<String, Object, Object>> delivered = voteStreamRepository.read(10, false);
+        List<MapRecord<String, Object, Object>> pending = voteStreamRepository.read(10, true);
+        voteStreamRepository.acknowledge(List.of(recordId));
+
+        //then
+        Assertions.assertThat(delivered).extracting(MapRecord::getId).containsExactly(recordId);
+        Assertions.assertThat(delivered.get(0).getValue())
+                .containsEntry(VoteStreamRepository.QUESTION_ID, "1")
+                .containsEntry(VoteStreamRepository.OPTION_ID, "20")
+                .containsEntry(VoteStreamRepository.USER_ID, "10");
+        Assertions.assertThat(pending).extracting(MapRecord::getId).containsExactly(recordId);
+        Assertions.assertThat(voteStreamRepository.read(10, true)).isEmpty();
+    }
+}
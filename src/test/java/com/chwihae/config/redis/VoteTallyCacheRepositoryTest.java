@@ -0,0 +1,100 @@
+package com.chwihae.config.redis;
+
+import com.chwihae.dto.option.response.Option;
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class VoteTallyCacheRepositoryTest extends AbstractIntegrationTest {
+
+    @BeforeEach
+    void setUp() {
+        voteTallyCacheRepository.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteTallyCacheRepository.clear();
+    }
+
+    @Test
+    @DisplayName("옵션별 투표 수로 캐시를 초기화하고 한 번에 조회한다")
+    void initializeTallies_andGetTallies() throws Exception {
+        //given
+        long questionId = 1L;
+        List<Option> options = List.of(new Option(10L, "option1", 3L), new Option(11L, "option2", 0L));
+
+        //when
+        boolean initialized = voteTallyCacheRepository.initializeTallies(questionId, options);
+        Map<Long, Long> tallies = voteTallyCacheRepository.getTallies(questionId);
+
+        //then
+        Assertions.assertThat(initialized).isTrue();
+        Assertions.assertThat(tallies).containsExactlyInAnyOrderEntriesOf(Map.of(10L, 3L, 11L, 0L));
+        Assertions.assertThat(voteTallyCacheRepository.findTrackedQuestionIds()).containsExactly(questionId);
+    }
+
+    @Test
+    @DisplayName("이미 캐시가 있으면 초기화하지 않는다")
+    void initializeTallies_whenExists_doesNotOverwrite() throws Exception {
+        //given
+        long questionId = 1L;
+        voteTallyCacheRepository.initializeTallies(questionId, List.of(new Option(10L, "option1", 3L)));
+
+        //when
+        boolean initialized = voteTallyCacheRepository.initializeTallies(questionId, List.of(new Option(10L, "option1", 0L)));
+
+        //then
+        Assertions.assertThat(initialized).isFalse();
+        Assertions.assertThat(voteTallyCacheRepository.getTallies(questionId)).containsEntry(10L, 3L);
+    }
+
+    @Test
+    @DisplayName("캐시가 있으면 옵션의 투표 수를 증가시킨다")
+    void incrementIfExists_whenExists_increments() throws Exception {
+        //given
+        long questionId = 1L;
+        voteTallyCacheRepository.initializeTallies(questionId, List.of(new Option(10L, "option1", 3L)));
+
+        //when
+        Optional<Long> result = voteTallyCacheRepository.incrementIfExists(questionId, 10L, 1L);
+
+        //then
+        Assertions.assertThat(result).hasValue(4L);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 투표 수를 증가시키지 않는다")
+    void incrementIfExists_whenNotExists_returnsEmpty() throws Exception {
+        //given
+        long questionId = 1L;
+
+        //when
+        Optional<Long> result = voteTallyCacheRepository.incrementIfExists(questionId, 10L, 1L);
+
+        //then
+        Assertions.assertThat(result).isEmpty();
+        Assertions.assertThat(voteTallyCacheRepository.exists(questionId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("캐시를 새로운 투표 수로 교체한다")
+    void replaceTallies_overwritesTallies() throws Exception {
+        //given
+        long questionId = 1L;
+        voteTallyCacheRepository.initializeTallies(questionId, List.of(new Option(10L, "option1", 3L), new Option(11L, "option2", 5L)));
+
+        //when
+        voteTallyCacheRepository.replaceTallies(questionId, List.of(new Option(10L, "option1", 1L)));
+
+        //then
+        Assertions.assertThat(voteTallyCacheRepository.getTallies(questionId)).containsExactlyEntriesOf(Map.of(10L, 1L));
+    }
+}
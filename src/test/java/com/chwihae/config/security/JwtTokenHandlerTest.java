@@ -175,4 +175,39 @@ class JwtTokenHandlerTest {
         Assertions.assertThatThrownBy(() -> jwtTokenHandler.getUserIdFromToken(secretKey, expiredToken))
                 .isInstanceOf(JwtException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("유효한 토큰을 검증하고 userId를 반환한다")
+    void verifyTokenAndGetUserId_returnsUserId() throws Exception {
+        //given
+        JwtTokenHandler jwtTokenHandler = new JwtTokenHandler();
+
+        long originalUserId = 123L;
+        String secretKey = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
+        String token = jwtTokenHandler.generateToken(originalUserId, secretKey, 86400000L);
+
+        //when
+        Long firstUserId = jwtTokenHandler.verifyTokenAndGetUserId(secretKey, token);
+        Long cachedUserId = jwtTokenHandler.verifyTokenAndGetUserId(secretKey, token);
+
+        //then
+        Assertions.assertThat(firstUserId).isEqualTo(originalUserId);
+        Assertions.assertThat(cachedUserId).isEqualTo(originalUserId);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰이라도 다른 비밀 키로 검증하면 예외가 발생한다")
+    void verifyTokenAndGetUserId_withOtherSecretKey_throwsJwtException() throws Exception {
+        //given
+        JwtTokenHandler jwtTokenHandler = new JwtTokenHandler();
+
+        String secretKey = "zOlJAgjm9iEZPqmzilEMh4NxvOfg1qBRP3xYkzUWpSE";
+        String otherSecretKey = "tywr1nTbJvWquHdD51gFSEezaYRs1fwAf+mKjxgYosMa";
+        String token = jwtTokenHandler.generateToken(123L, secretKey, 86400000L);
+        jwtTokenHandler.verifyTokenAndGetUserId(secretKey, token);
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> jwtTokenHandler.verifyTokenAndGetUserId(otherSecretKey, token))
+                .isInstanceOf(JwtException.class);
+    }
+}
@@ -4,6 +4,8 @@ import com.chwihae.domain.commenter.CommenterAliasPrefix;
 import com.chwihae.domain.question.QuestionType;
 import com.chwihae.dto.comment.Comment;
 import com.chwihae.dto.comment.request.QuestionCommentRequest;
+import com.chwihae.dto.common.request.Cursor;
+import com.chwihae.dto.common.response.CursorSliceResponse;
 import com.chwihae.dto.option.request.OptionCreateRequest;
 import com.chwihae.dto.option.response.Option;
 import com.chwihae.dto.option.response.VoteOptionResponse;
@@ -21,6 +23,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -32,10 +35,12 @@ import static com.chwihae.domain.question.QuestionStatus.IN_PROGRESS;
 import static com.chwihae.domain.question.QuestionType.COMPANY;
 import static com.chwihae.domain.question.QuestionType.SPEC;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -212,6 +217,75 @@ class QuestionControllerDocsTest extends AbstractRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("질문 리스트 커서 조회 API")
+    void getQuestionsByCursor_restDocs() throws Exception {
+        //given
+        final int SIZE = 2;
+
+        List<QuestionListResponse> content = new ArrayList<>();
+        IntStream.range(0, SIZE).forEach(responseIndex -> {
+            content.add(
+                    QuestionListResponse.builder()
+                            .id((long) responseIndex)
+                            .status(IN_PROGRESS)
+                            .title("question title " + responseIndex)
+                            .type(COMPANY)
+                            .build()
+            );
+        });
+
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        String cursor = Cursor.of(createdAt, 10L).encode();
+        String nextCursor = Cursor.of(createdAt, 8L).encode();
+        CursorSliceResponse<QuestionListResponse> response = CursorSliceResponse.<QuestionListResponse>builder()
+                .content(content)
+                .size(SIZE)
+                .hasNext(true)
+                .nextCursor(nextCursor)
+                .build();
+
+        given(questionService.getQuestionsByTypeAndStatusAfterCursor(any(), any(), any(), anyInt()))
+                .willReturn(response);
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/questions/cursor?type={type}&status={status}&cursor={cursor}&size={size}", COMPANY, IN_PROGRESS, cursor, SIZE)
+                                .header(AUTHORIZATION, token(1L))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("question-list-cursor",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("[Required] 인증 토큰 (타입: 문자열)")
+                        ),
+                        queryParameters(
+                                parameterWithName("type").description("[Optional] 질문 타입 (가능한 값: [CAREER, SPEC, COMPANY, ETC])"),
+                                parameterWithName("status").description("[Optional] 질문 상태 (가능한 값: [IN_PROGRESS, COMPLETED])"),
+                                parameterWithName("cursor").description("[Optional] 이전 응답의 nextCursor 값 (없으면 첫 페이지)"),
+                                parameterWithName("size").description("[Optional] 페이지 사이즈 (default: 10, max: 100)")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER).description("코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("메시지"),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT).description("응답 데이터"),
+                                fieldWithPath("data.content[]").type(JsonFieldType.ARRAY).description("질문 목록"),
+                                fieldWithPath("data.content[].id").type(JsonFieldType.NUMBER).description("질문 아이디"),
+                                fieldWithPath("data.content[].title").type(JsonFieldType.STRING).description("질문 제목"),
+                                fieldWithPath("data.content[].type").type(JsonFieldType.STRING).description("질문 타입 [CAREER, SPEC, COMPANY, ETC]"),
+                                fieldWithPath("data.content[].status").type(JsonFieldType.STRING).description("질문 상태 [IN_PROGRESS, COMPLETED]"),
+                                fieldWithPath("data.content[].viewCount").type(JsonFieldType.NUMBER).description("질문 조회수"),
+                                fieldWithPath("data.content[].commentCount").type(JsonFieldType.NUMBER).description("질문 댓글수"),
+                                fieldWithPath("data.content[].bookmarkCount").type(JsonFieldType.NUMBER).description("질문 저장수"),
+                                fieldWithPath("data.size").type(JsonFieldType.NUMBER).description("요청한 페이지 크기"),
+                                fieldWithPath("data.hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)").optional()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("질문 단건 조회 API")
     void getQuestion_restDocs() throws Exception {
@@ -321,6 +395,32 @@ class QuestionControllerDocsTest extends AbstractRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("질문 투표 결과 실시간 구독 API")
+    void streamOptions_restDocs() throws Exception {
+        //given
+        given(voteService.subscribeVoteResults(any(), any()))
+                .willReturn(new SseEmitter());
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/questions/{questionId}/options/stream", 25L)
+                                .header(AUTHORIZATION, token(1L))
+                                .accept(TEXT_EVENT_STREAM)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("question-options-stream",
+                        preprocessRequest(prettyPrint()),
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("[Required] 인증 토큰 (타입: 문자열)")
+                        ),
+                        pathParameters(
+                                parameterWithName("questionId").description("[Required] 질문 아이디 (타입: 숫자)")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("투표 등록 API")
     void createVote_restDocs() throws Exception {
@@ -445,6 +545,73 @@ class QuestionControllerDocsTest extends AbstractRestDocsTest {
 
     }
 
+    @Test
+    @DisplayName("댓글 커서 조회 API")
+    void getCommentsByCursor_restDocs() throws Exception {
+        //given
+        final int SIZE = 2;
+
+        LocalDateTime createdAt = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        List<Comment> comments = new ArrayList<>();
+        IntStream.range(0, SIZE).forEach(commentIndex -> {
+            comments.add(Comment.builder()
+                    .id((long) commentIndex)
+                    .content("content")
+                    .createdAt(createdAt)
+                    .editable(false)
+                    .commenterAlias(CommenterAliasPrefix.getAlias(commentIndex + 1))
+                    .build());
+        });
+
+        String cursor = Cursor.of(createdAt, 10L).encode();
+        String nextCursor = Cursor.of(createdAt, 12L).encode();
+        CursorSliceResponse<Comment> response = CursorSliceResponse.<Comment>builder()
+                .content(comments)
+                .size(SIZE)
+                .hasNext(true)
+                .nextCursor(nextCursor)
+                .build();
+
+        given(commentService.getCommentsAfterCursor(any(), any(), any(), anyInt()))
+                .willReturn(response);
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/questions/{questionId}/comments/cursor?cursor={cursor}&size={size}", 122L, cursor, SIZE)
+                                .header(AUTHORIZATION, token(1L))
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andDo(document("comment-list-cursor",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        requestHeaders(
+                                headerWithName(AUTHORIZATION).description("[Required] 인증 토큰 (타입: 문자열)")
+                        ),
+                        queryParameters(
+                                parameterWithName("cursor").description("[Optional] 이전 응답의 nextCursor 값 (없으면 첫 페이지)"),
+                                parameterWithName("size").description("[Optional] 페이지 사이즈 (default: 10, max: 100)")
+                        ),
+                        pathParameters(
+                                parameterWithName("questionId").description("[Required] 질문 아이디 (타입: 숫자)")
+                        ),
+                        responseFields(
+                                fieldWithPath("code").type(JsonFieldType.NUMBER).description("코드"),
+                                fieldWithPath("message").type(JsonFieldType.STRING).description("메시지"),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT).description("응답 데이터"),
+                                fieldWithPath("data.content[]").type(JsonFieldType.ARRAY).description("댓글 목록"),
+                                fieldWithPath("data.content[].id").type(JsonFieldType.NUMBER).description("댓글 아이디"),
+                                fieldWithPath("data.content[].content").type(JsonFieldType.STRING).description("댓글 내용"),
+                                fieldWithPath("data.content[].createdAt").type(JsonFieldType.STRING).description("댓글 등록 시간 (형식: yyyy-MM-dd'T'HH:mm)"),
+                                fieldWithPath("data.content[].editable").type(JsonFieldType.BOOLEAN).description("댓글 수정 가능 여부(댓글 작성자면 true)"),
+                                fieldWithPath("data.content[].commenterAlias").type(JsonFieldType.STRING).description("댓글 작성자 별칭"),
+                                fieldWithPath("data.size").type(JsonFieldType.NUMBER).description("요청한 페이지 크기"),
+                                fieldWithPath("data.hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부"),
+                                fieldWithPath("data.nextCursor").type(JsonFieldType.STRING).description("다음 페이지 조회에 사용할 커서 (마지막 페이지면 null)").optional()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("댓글 등록 API")
     void createComment_restDocs() throws Exception {
@@ -684,6 +684,48 @@ class QuestionControllerTest extends AbstractMockMvcTest {
                 .andExpect(jsonPath("$.code").value(INVALID_ARGUMENT.code()));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/questions/cursor?type={type}&status={status}&cursor={cursor}&size={size} - 성공")
+    @WithTestUser
+    void getQuestionsByCursor_returnsSuccessCode() throws Exception {
+        //given
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of("questioner@email.com"));
+
+        LocalDateTime closeAt = LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusMinutes(30);
+        QuestionEntity question1 = createQuestion(userEntity, closeAt);
+        QuestionEntity question2 = createQuestion(userEntity, closeAt);
+        QuestionEntity question3 = createQuestion(userEntity, closeAt);
+        questionRepository.saveAll(List.of(question1, question2, question3));
+        questionViewRepository.saveAll(List.of(QuestionViewFixture.of(question1), QuestionViewFixture.of(question2), QuestionViewFixture.of(question3)));
+
+        final int size = 2;
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/questions/cursor?status={status}&size={size}", IN_PROGRESS, size)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(size))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.data.content[0].id").value(question3.getId()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/questions/cursor?type={type}&status={status}&cursor={cursor}&size={size} - 실패 (유효하지 않은 커서)")
+    @WithTestUser
+    void getQuestionsByCursor_withInvalidCursor_returnsInvalidArgumentCode() throws Exception {
+        //given
+        String invalidCursor = "invalid";
+
+        //when //then
+        mockMvc.perform(
+                        get("/api/v1/questions/cursor?cursor={cursor}", invalidCursor)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(INVALID_ARGUMENT.code()));
+    }
+
     @Test
     @DisplayName("GET /api/v1/questions?type={type}&status={status}&page={pageNumber}&size={size} - 실패 (미인증 사용자)")
     @WithAnonymousUser
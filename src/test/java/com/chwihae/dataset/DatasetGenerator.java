@@ -0,0 +1,388 @@
+package com.chwihae.dataset;
+
+import com.chwihae.domain.commenter.CommenterAliasPrefix;
+import com.chwihae.domain.question.QuestionStatus;
+import com.chwihae.domain.question.QuestionType;
+import com.chwihae.domain.user.UserLevel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/*
+ * database/service-domain-create.sql 스키마에 운영 규모의 데이터를 채운다.
+ * 사용자 활동량과 질문 인기도는 Zipfian 분포를 따르며, 테이블별 CSV 를 만든 뒤 LOAD DATA LOCAL INFILE 로 적재한다.
+ *
+ * ./gradlew generateDataset -Ddataset.url=jdbc:mariadb://localhost:3306/chwihae -Ddataset.users=1000000
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String NULL = "\\N";
+    private static final int MIN_OPTIONS = 2;
+    private static final int MAX_OPTIONS = 5;
+    private static final long MAX_OPEN_SECONDS = 7 * 24 * 60 * 60;
+    private static final List<String> TABLES = List.of(
+            "vote", "bookmark", "comment", "commenter_alias", "commenter_sequence", "question_view",
+            "question_stats", "`option`", "question", "user_stats", "users");
+
+    private final DatasetSettings settings;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now(KST).withNano(0);
+
+    // 질문별 파생 정보는 배열로 들고 있어 수백만 건도 맵 없이 처리한다
+    private long[] questionCreatedAt;
+    private long[] questionOpenSeconds;
+    private long[] firstOptionId;
+    private byte[] optionCount;
+    private int[] questionVoteCount;
+    private int[] questionCommentCount;
+    private int[] questionBookmarkCount;
+    private int[] commenterSequence;
+    private int[] userVoteCount;
+    private int[] userCommentCount;
+
+    public DatasetGenerator(DatasetSettings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DatasetGenerator(DatasetSettings.fromSystemProperties()).run();
+    }
+
+    public void run() throws IOException, SQLException {
+        Path directory = Files.createTempDirectory("chwihae-dataset");
+        log.info("Generating dataset into {} with {}", directory, settings);
+
+        List<CsvFile> files = new ArrayList<>();
+        files.add(generateUsers(directory));
+        files.add(generateQuestions(directory));
+        files.add(generateOptions(directory));
+        files.add(generateVotes(directory));
+        files.addAll(generateComments(directory));
+        files.add(generateBookmarks(directory));
+        files.add(generateCommenterSequences(directory));
+        files.addAll(generateStats(directory));
+
+        try (Connection connection = DriverManager.getConnection(settings.url(), settings.username(), settings.password());
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET foreign_key_checks = 0");
+            statement.execute("SET unique_checks = 0");
+            prepareTables(statement);
+            for (CsvFile file : files) {
+                long start = System.currentTimeMillis();
+                long loaded = statement.executeLargeUpdate(file.loadStatement());
+                log.info("Loaded {} rows into {} in {} ms", loaded, file.table, System.currentTimeMillis() - start);
+            }
+            statement.execute("SET unique_checks = 1");
+            statement.execute("SET foreign_key_checks = 1");
+        } finally {
+            for (CsvFile file : files) {
+                Files.deleteIfExists(file.path);
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private void prepareTables(Statement statement) throws SQLException {
+        if (settings.truncate()) {
+            for (String table : TABLES) {
+                statement.execute("TRUNCATE TABLE " + table);
+            }
+            return;
+        }
+        try (ResultSet resultSet = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM users)")) {
+            resultSet.next();
+            if (resultSet.getBoolean(1)) {
+                throw new IllegalStateException("users table is not empty. Run with -Ddataset.truncate=true to replace existing data");
+            }
+        }
+    }
+
+    private CsvFile generateUsers(Path directory) throws IOException {
+        long createdAt = toEpochSecond(now.minusDays(settings.days()));
+        try (CsvFile file = new CsvFile(directory, "users", "id_users", "email", "created_at", "modified_at")) {
+            for (int user = 0; user < settings.users(); user++) {
+                String timestamp = format(createdAt + (long) user * settings.days() * 86_400 / settings.users());
+                file.row(userId(user), "user" + userId(user) + "@chwihae.com", timestamp, timestamp);
+            }
+            return file;
+        }
+    }
+
+    private CsvFile generateQuestions(Path directory) throws IOException {
+        int questions = settings.questions();
+        questionCreatedAt = new long[questions];
+        questionOpenSeconds = new long[questions];
+        QuestionType[] types = QuestionType.values();
+        // 질문을 많이 올리는 사용자도 Zipfian 분포로 편중시킨다
+        ZipfianGenerator questioners = new ZipfianGenerator(settings.users(), settings.theta(), random);
+        long start = toEpochSecond(now.minusDays(settings.days()));
+        long nowEpoch = toEpochSecond(now);
+
+        try (CsvFile file = new CsvFile(directory, "question",
+                "id_question", "id_questioner", "title", "content", "type", "status", "close_at", "created_at", "modified_at")) {
+            for (int question = 0; question < questions; question++) {
+                long createdAt = start + (long) question * settings.days() * 86_400 / questions;
+                long closeAt = createdAt + 3_600 + (long) (random.nextDouble() * (MAX_OPEN_SECONDS - 3_600));
+                questionCreatedAt[question] = createdAt;
+                questionOpenSeconds[question] = Math.max(1, Math.min(closeAt, nowEpoch) - createdAt);
+                QuestionStatus status = closeAt <= nowEpoch ? QuestionStatus.COMPLETED : QuestionStatus.IN_PROGRESS;
+                file.row(questionId(question), userId(questioners.nextInt()), "title " + questionId(question),
+                        "content " + questionId(question), types[random.nextInt(types.length)], status,
+                        format(closeAt), format(createdAt), format(createdAt));
+            }
+            return file;
+        }
+    }
+
+    private CsvFile generateOptions(Path directory) throws IOException {
+        firstOptionId = new long[settings.questions()];
+        optionCount = new byte[settings.questions()];
+        long optionId = 1;
+        try (CsvFile file = new CsvFile(directory, "`option`", "id_option", "id_question", "name", "created_at", "modified_at")) {
+            for (int question = 0; question < settings.questions(); question++) {
+                int count = MIN_OPTIONS + random.nextInt(MAX_OPTIONS - MIN_OPTIONS + 1);
+                firstOptionId[question] = optionId;
+                optionCount[question] = (byte) count;
+                String timestamp = format(questionCreatedAt[question]);
+                for (int option = 0; option < count; option++) {
+                    file.row(optionId++, questionId(question), "option " + (option + 1), timestamp, timestamp);
+                }
+            }
+            return file;
+        }
+    }
+
+    private CsvFile generateVotes(Path directory) throws IOException {
+        questionVoteCount = new int[settings.questions()];
+        userVoteCount = new int[settings.users()];
+        int[] targets = distributeActivity(settings.votes());
+        ZipfianGenerator popularity = new ZipfianGenerator(settings.questions(), settings.theta(), random);
+        long voteId = 1;
+
+        try (CsvFile file = new CsvFile(directory, "vote",
+                "id_vote", "id_voter", "id_question", "id_option", "created_at", "modified_at")) {
+            for (int user = 0; user < settings.users(); user++) {
+                // 같은 질문에는 한 번만 투표할 수 있으므로 사용자별로 중복을 걸러낸다
+                for (int question : pickDistinctQuestions(popularity, targets[user])) {
+                    long optionId = firstOptionId[question] + skewedOption(optionCount[question]);
+                    String timestamp = format(randomTimeWithin(question));
+                    file.row(voteId++, userId(user), questionId(question), optionId, timestamp, timestamp);
+                    questionVoteCount[question]++;
+                    userVoteCount[user]++;
+                }
+            }
+            return file;
+        }
+    }
+
+    private List<CsvFile> generateComments(Path directory) throws IOException {
+        questionCommentCount = new int[settings.questions()];
+        commenterSequence = new int[settings.questions()];
+        userCommentCount = new int[settings.users()];
+        int[] targets = distributeActivity(settings.comments());
+        ZipfianGenerator popularity = new ZipfianGenerator(settings.questions(), settings.theta(), random);
+        long commentId = 1;
+        long aliasId = 1;
+
+        try (CsvFile aliases = new CsvFile(directory, "commenter_alias",
+                "id_commenter_alias", "id_commenter", "id_question", "alias", "created_at", "modified_at");
+             CsvFile comments = new CsvFile(directory, "comment",
+                     "id_comment", "id_commenter", "id_commenter_alias", "id_question", "content", "created_at", "modified_at")) {
+            for (int user = 0; user < settings.users(); user++) {
+                // 한 사용자가 같은 질문에 여러 번 댓글을 달면 처음 받은 별칭을 계속 사용한다
+                Map<Integer, Long> aliasIdByQuestion = new HashMap<>();
+                for (int i = 0; i < targets[user]; i++) {
+                    int question = toQuestionIndex(popularity.nextInt());
+                    String timestamp = format(randomTimeWithin(question));
+                    Long commenterAliasId = aliasIdByQuestion.get(question);
+                    if (commenterAliasId == null) {
+                        commenterAliasId = aliasId++;
+                        aliasIdByQuestion.put(question, commenterAliasId);
+                        aliases.row(commenterAliasId, userId(user), questionId(question),
+                                CommenterAliasPrefix.getAlias(++commenterSequence[question]), timestamp, timestamp);
+                    }
+                    comments.row(commentId, userId(user), commenterAliasId, questionId(question),
+                            "comment " + commentId, timestamp, timestamp);
+                    commentId++;
+                    questionCommentCount[question]++;
+                    userCommentCount[user]++;
+                }
+            }
+            return List.of(aliases, comments);
+        }
+    }
+
+    private CsvFile generateBookmarks(Path directory) throws IOException {
+        questionBookmarkCount = new int[settings.questions()];
+        int[] targets = distributeActivity(settings.bookmarks());
+        ZipfianGenerator popularity = new ZipfianGenerator(settings.questions(), settings.theta(), random);
+        long bookmarkId = 1;
+
+        try (CsvFile file = new CsvFile(directory, "bookmark", "id_bookmark", "id_users", "id_question", "created_at", "modified_at")) {
+            for (int user = 0; user < settings.users(); user++) {
+                for (int question : pickDistinctQuestions(popularity, targets[user])) {
+                    String timestamp = format(randomTimeWithin(question));
+                    file.row(bookmarkId++, userId(user), questionId(question), timestamp, timestamp);
+                    questionBookmarkCount[question]++;
+                }
+            }
+            return file;
+        }
+    }
+
+    private CsvFile generateCommenterSequences(Path directory) throws IOException {
+        try (CsvFile file = new CsvFile(directory, "commenter_sequence",
+                "id_commenter_seq", "id_question", "sequence", "created_at", "modified_at")) {
+            for (int question = 0; question < settings.questions(); question++) {
+                String timestamp = format(questionCreatedAt[question]);
+                file.row(questionId(question), questionId(question), commenterSequence[question], timestamp, timestamp);
+            }
+            return file;
+        }
+    }
+
+    // 집계 테이블은 생성한 원본 데이터와 정확히 일치하도록 메모리의 카운트로 채운다
+    private List<CsvFile> generateStats(Path directory) throws IOException {
+        try (CsvFile views = new CsvFile(directory, "question_view",
+                "id_view", "id_question", "view_count", "created_at", "modified_at");
+             CsvFile questionStats = new CsvFile(directory, "question_stats",
+                     "id_question_stats", "id_question", "vote_count", "comment_count", "bookmark_count", "view_count", "created_at", "modified_at");
+             CsvFile userStats = new CsvFile(directory, "user_stats",
+                     "id_user_stats", "id_user", "vote_count", "comment_count", "level", "created_at", "modified_at")) {
+            for (int question = 0; question < settings.questions(); question++) {
+                String timestamp = format(questionCreatedAt[question]);
+                // 조회 수는 참여가 많은 질문일수록 높게 잡는다
+                int participation = questionVoteCount[question] + questionCommentCount[question] + questionBookmarkCount[question];
+                int viewCount = participation * (2 + random.nextInt(8)) + random.nextInt(20);
+                views.row(questionId(question), questionId(question), viewCount, timestamp, timestamp);
+                questionStats.row(questionId(question), questionId(question), questionVoteCount[question],
+                        questionCommentCount[question], questionBookmarkCount[question], viewCount, timestamp, timestamp);
+            }
+            String timestamp = format(toEpochSecond(now));
+            for (int user = 0; user < settings.users(); user++) {
+                UserLevel level = UserLevel.getLevel(userVoteCount[user], userCommentCount[user]);
+                userStats.row(userId(user), userId(user), userVoteCount[user], userCommentCount[user], level, timestamp, timestamp);
+            }
+            return List.of(views, questionStats, userStats);
+        }
+    }
+
+    // 전체 활동량을 사용자 활동 순위의 Zipfian 분포에 따라 나눠 준다
+    private int[] distributeActivity(long total) {
+        int[] targets = new int[settings.users()];
+        ZipfianGenerator activity = new ZipfianGenerator(settings.users(), settings.theta(), random);
+        for (long i = 0; i < total; i++) {
+            targets[activity.nextInt()]++;
+        }
+        return targets;
+    }
+
+    private List<Integer> pickDistinctQuestions(ZipfianGenerator popularity, int target) {
+        int count = Math.min(target, settings.questions());
+        Set<Integer> picked = new HashSet<>(count * 2);
+        int attempts = 0;
+        while (picked.size() < count && attempts < count * 10) {
+            picked.add(toQuestionIndex(popularity.nextInt()));
+            attempts++;
+        }
+        // 인기 질문이 모두 뽑혀 더 이상 새 질문이 나오지 않으면 균등 분포로 채운다
+        while (picked.size() < count) {
+            picked.add(random.nextInt(settings.questions()));
+        }
+        return new ArrayList<>(picked);
+    }
+
+    // 최근 질문일수록 인기가 높도록 순위를 최신 질문부터 매긴다
+    private int toQuestionIndex(int popularityRank) {
+        return settings.questions() - 1 - popularityRank;
+    }
+
+    // 첫 번째 선택지에 표가 더 몰리도록 편향을 준다
+    private int skewedOption(int count) {
+        return (int) (count * Math.pow(random.nextDouble(), 1.5));
+    }
+
+    private long randomTimeWithin(int question) {
+        return questionCreatedAt[question] + (long) (random.nextDouble() * questionOpenSeconds[question]);
+    }
+
+    private static long userId(int userIndex) {
+        return userIndex + 1L;
+    }
+
+    private static long questionId(int questionIndex) {
+        return questionIndex + 1L;
+    }
+
+    private long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(KST).toEpochSecond();
+    }
+
+    private String format(long epochSecond) {
+        return DATE_TIME_FORMATTER.format(LocalDateTime.ofEpochSecond(epochSecond, 0, KST.getRules().getOffset(now)));
+    }
+
+    private static class CsvFile implements Closeable {
+
+        private final String table;
+        private final String[] columns;
+        private final Path path;
+        private final BufferedWriter writer;
+        private final StringBuilder line = new StringBuilder(256);
+
+        CsvFile(Path directory, String table, String... columns) throws IOException {
+            this.table = table;
+            this.columns = columns;
+            this.path = directory.resolve(table.replace("`", "") + ".csv");
+            this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        }
+
+        void row(Object... values) throws IOException {
+            line.setLength(0);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(values[i] == null ? NULL : values[i]);
+            }
+            line.append('\n');
+            writer.write(line.toString());
+        }
+
+        String loadStatement() {
+            return "LOAD DATA LOCAL INFILE '" + path.toAbsolutePath().toString().replace('\\', '/') + "' " +
+                    "INTO TABLE " + table + " CHARACTER SET utf8mb4 " +
+                    "FIELDS TERMINATED BY ',' LINES TERMINATED BY '\\n' " +
+                    "(" + String.join(", ", columns) + ")";
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
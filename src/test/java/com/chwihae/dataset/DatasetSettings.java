@@ -0,0 +1,54 @@
+package com.chwihae.dataset;
+
+public record DatasetSettings(String url,
+                              String username,
+                              String password,
+                              int users,
+                              int questions,
+                              long votes,
+                              long comments,
+                              long bookmarks,
+                              double theta,
+                              int days,
+                              long seed,
+                              boolean truncate) {
+
+    private static final String PREFIX = "dataset.";
+    private static final String LOCAL_INFILE_OPTION = "allowLocalInfile=true";
+
+    public static DatasetSettings fromSystemProperties() {
+        return new DatasetSettings(
+                withLocalInfile(property("url", "jdbc:mariadb://localhost:3306/chwihae")),
+                property("username", "root"),
+                property("password", ""),
+                Integer.parseInt(property("users", "1000000")),
+                Integer.parseInt(property("questions", "300000")),
+                Long.parseLong(property("votes", "10000000")),
+                Long.parseLong(property("comments", "2000000")),
+                Long.parseLong(property("bookmarks", "1000000")),
+                Double.parseDouble(property("theta", "0.99")),
+                Integer.parseInt(property("days", "365")),
+                Long.parseLong(property("seed", "42")),
+                Boolean.parseBoolean(property("truncate", "false")));
+    }
+
+    // LOAD DATA LOCAL INFILE 는 드라이버 옵션을 켜야만 동작한다
+    private static String withLocalInfile(String url) {
+        if (url.contains("allowLocalInfile")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + LOCAL_INFILE_OPTION;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    // 비밀번호는 로그에 남기지 않는다
+    @Override
+    public String toString() {
+        return "DatasetSettings[url=" + url + ", users=" + users + ", questions=" + questions + ", votes=" + votes +
+                ", comments=" + comments + ", bookmarks=" + bookmarks + ", theta=" + theta + ", days=" + days +
+                ", seed=" + seed + ", truncate=" + truncate + "]";
+    }
+}
@@ -0,0 +1,55 @@
+package com.chwihae.dataset;
+
+import java.util.Random;
+
+// Gray et al. "Quickly Generating Billion-Record Synthetic Databases" 의 방식으로
+// 0 번 순위가 가장 자주 뽑히는 [0, itemCount) 범위의 값을 생성한다
+public class ZipfianGenerator {
+
+    private final long itemCount;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+    private final double halfPowTheta;
+    private final Random random;
+
+    public ZipfianGenerator(long itemCount, double theta, Random random) {
+        if (itemCount < 1) {
+            throw new IllegalArgumentException("itemCount must be positive: " + itemCount);
+        }
+        if (theta <= 0 || theta >= 1) {
+            throw new IllegalArgumentException("theta must be in (0, 1): " + theta);
+        }
+        this.itemCount = itemCount;
+        this.random = random;
+        this.zetaN = zeta(itemCount, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / itemCount, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+        this.halfPowTheta = 1 + Math.pow(0.5, theta);
+    }
+
+    public long next() {
+        double u = random.nextDouble();
+        double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < halfPowTheta) {
+            return Math.min(1, itemCount - 1);
+        }
+        long rank = (long) (itemCount * Math.pow(eta * u - eta + 1, alpha));
+        return Math.min(rank, itemCount - 1);
+    }
+
+    public int nextInt() {
+        return (int) next();
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,68 @@
+package com.chwihae.dataset;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class ZipfianGeneratorTest {
+
+    @Test
+    @DisplayName("생성한 값은 항상 [0, itemCount) 범위에 있다")
+    void next_withinRange() throws Exception {
+        //given
+        final int ITEM_COUNT = 100;
+        ZipfianGenerator generator = new ZipfianGenerator(ITEM_COUNT, 0.99, new Random(42));
+
+        //when //then
+        for (int i = 0; i < 100_000; i++) {
+            Assertions.assertThat(generator.next()).isBetween(0L, (long) ITEM_COUNT - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("순위가 높은 값일수록 더 자주 생성된다")
+    void next_skewedTowardsLowRanks() throws Exception {
+        //given
+        final int ITEM_COUNT = 1_000;
+        final int SAMPLE_COUNT = 200_000;
+        ZipfianGenerator generator = new ZipfianGenerator(ITEM_COUNT, 0.99, new Random(42));
+        int[] counts = new int[ITEM_COUNT];
+
+        //when
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            counts[generator.nextInt()]++;
+        }
+
+        //then
+        int top10 = 0;
+        for (int i = 0; i < 10; i++) {
+            top10 += counts[i];
+        }
+        Assertions.assertThat(counts[0]).isGreaterThan(counts[1]);
+        Assertions.assertThat(counts[1]).isGreaterThan(counts[100]);
+        Assertions.assertThat(top10).isGreaterThan(SAMPLE_COUNT / 4);
+    }
+
+    @Test
+    @DisplayName("같은 시드로 만들면 같은 순서의 값을 생성한다")
+    void next_sameSeed_reproducible() throws Exception {
+        //given
+        ZipfianGenerator first = new ZipfianGenerator(10_000, 0.9, new Random(7));
+        ZipfianGenerator second = new ZipfianGenerator(10_000, 0.9, new Random(7));
+
+        //when //then
+        for (int i = 0; i < 1_000; i++) {
+            Assertions.assertThat(first.next()).isEqualTo(second.next());
+        }
+    }
+
+    @Test
+    @DisplayName("theta 가 (0, 1) 범위를 벗어나면 예외가 발생한다")
+    void constructor_invalidTheta_throwsException() throws Exception {
+        //when //then
+        Assertions.assertThatThrownBy(() -> new ZipfianGenerator(10, 1.0, new Random()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
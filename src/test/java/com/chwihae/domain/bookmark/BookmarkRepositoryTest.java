@@ -17,33 +17,6 @@ import java.util.List;
 @Transactional
 class BookmarkRepositoryTest extends AbstractIntegrationTest {
 
-    @Test
-    @DisplayName("질문 아이디로 북마크 집계를 한다")
-    void countByQuestionEntityId() throws Exception {
-        //given
-        UserEntity questioner = UserEntityFixture.of();
-        UserEntity user1 = UserEntityFixture.of();
-        UserEntity user2 = UserEntityFixture.of();
-        UserEntity user3 = UserEntityFixture.of();
-        UserEntity user4 = UserEntityFixture.of();
-        UserEntity user5 = UserEntityFixture.of();
-        userRepository.saveAll(List.of(questioner, user1, user2, user3, user4, user5));
-
-        QuestionEntity question = questionRepository.save(createQuestion(questioner));
-        BookmarkEntity bookmark1 = createBookmark(user1, question);
-        BookmarkEntity bookmark2 = createBookmark(user1, question);
-        BookmarkEntity bookmark3 = createBookmark(user1, question);
-        BookmarkEntity bookmark4 = createBookmark(user1, question);
-        BookmarkEntity bookmark5 = createBookmark(user1, question);
-        bookmarkRepository.saveAll(List.of(bookmark1, bookmark2, bookmark3, bookmark4, bookmark5));
-
-        //when
-        long bookmarkedCount = bookmarkRepository.countByQuestionEntityId(question.getId());
-
-        //then
-        Assertions.assertThat(bookmarkedCount).isEqualTo(5L);
-    }
-
     @Test
     @DisplayName("사용자가 질문을 북마크 했는지 확인한다")
     void existsByQuestionEntityIdAndUserEntityId() throws Exception {
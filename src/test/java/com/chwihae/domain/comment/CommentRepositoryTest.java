@@ -44,30 +44,6 @@ class CommentRepositoryTest extends AbstractIntegrationTest {
                 );
     }
 
-    @Test
-    @DisplayName("질문 아이디로 댓글 수를 집계한다")
-    void countByQuestionEntityId() throws Exception {
-        //given
-        UserEntity questioner = UserEntityFixture.of();
-        UserEntity commenter = UserEntityFixture.of();
-        userRepository.saveAll(List.of(questioner, commenter));
-        QuestionEntity question = questionRepository.save(createQuestion(questioner));
-
-        CommenterAliasEntity commenterAliasEntity = commenterAliasRepository.save(createAlias("alias", question,
-                commenter));
-        CommentEntity comment1 = createComment(question, commenter, commenterAliasEntity, "content");
-        CommentEntity comment2 = createComment(question, commenter, commenterAliasEntity, "content");
-        CommentEntity comment3 = createComment(question, commenter, commenterAliasEntity, "content");
-        CommentEntity comment4 = createComment(question, commenter, commenterAliasEntity, "content");
-        commentRepository.saveAll(List.of(comment1, comment2, comment3, comment4));
-
-        //when
-        long commentCount = commentRepository.countByQuestionEntityId(question.getId());
-
-        //then
-        Assertions.assertThat(commentCount).isEqualTo(4L);
-    }
-
     @Test
     @DisplayName("사용자 아이디로 댓글 수를 집계한다")
     void countByUserEntityId() throws Exception {
@@ -30,6 +30,22 @@ class CommenterAliasRepositoryTest extends AbstractIntegrationTest {
                 .isInstanceOf(DataIntegrityViolationException.class);
     }
 
+    @Test
+    @DisplayName("질문 아이디와 사용자 아이디로 댓글 작성자 별칭을 조회한다")
+    void findByQuestionEntityIdAndUserEntityId() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        UserEntity otherUser = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(createQuestion(user));
+        CommenterAliasEntity alias = commenterAliasRepository.save(createAlias("alias", question, user));
+
+        //when //then
+        Assertions.assertThat(commenterAliasRepository.findByQuestionEntityIdAndUserEntityId(question.getId(), user.getId()))
+                .hasValueSatisfying(it -> Assertions.assertThat(it.getId()).isEqualTo(alias.getId()));
+        Assertions.assertThat(commenterAliasRepository.findByQuestionEntityIdAndUserEntityId(question.getId(), otherUser.getId()))
+                .isEmpty();
+    }
+
     public QuestionEntity createQuestion(UserEntity userEntity) {
         return QuestionEntity.builder()
                 .userEntity(userEntity)
@@ -11,44 +11,26 @@ import org.junit.jupiter.api.Test;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 @Transactional
 class CommenterSequenceRepositoryTest extends AbstractIntegrationTest {
 
     @Test
-    @DisplayName("질문 아이디로 write lock을 걸고 댓글 작성자 순서를 조회한다")
-    void findForUpdateByQuestionEntityId() throws Exception {
-        //given
-        UserEntity user = userRepository.save(UserEntityFixture.of());
-        QuestionEntity question = questionRepository.save(createQuestion(user));
-        commenterSequenceRepository.save(createCommenterSequence(question));
-
-        //when
-        Optional<CommenterSequenceEntity> optionalCommenterSequence = commenterSequenceRepository.findForUpdateByQuestionEntityId(question.getId());
-
-        //then
-        Assertions.assertThat(optionalCommenterSequence)
-                .isPresent()
-                .hasValueSatisfying(
-                        it -> Assertions.assertThat(it.getSequence()).isZero()
-                );
-    }
-
-    @Test
-    @DisplayName("질문 아이디로 댓글 작성자 순서를 1 증가시킨다")
-    void updateSequenceByQuestionEntityId() throws Exception {
+    @DisplayName("질문 아이디로 댓글 작성자 순서를 1 증가시키고 증가된 값을 조회한다")
+    void incrementSequenceByQuestionId() throws Exception {
         //given
         UserEntity user = userRepository.save(UserEntityFixture.of());
         QuestionEntity question = questionRepository.save(createQuestion(user));
         CommenterSequenceEntity sequence = commenterSequenceRepository.save(createCommenterSequence(question));
 
         //when
-        commenterSequenceRepository.updateSequenceByQuestionEntityId(question.getId());
-        entityManager.flush();
+        int updatedCount = commenterSequenceRepository.incrementSequenceByQuestionId(question.getId());
+        Long lastInsertId = commenterSequenceRepository.findLastInsertId();
         entityManager.clear();
 
         //then
+        Assertions.assertThat(updatedCount).isOne();
+        Assertions.assertThat(lastInsertId).isOne();
         Assertions.assertThat(commenterSequenceRepository.findById(sequence.getId()).get().getSequence()).isOne();
     }
 
@@ -4,7 +4,10 @@ import com.chwihae.domain.bookmark.BookmarkEntity;
 import com.chwihae.domain.option.OptionEntity;
 import com.chwihae.domain.user.UserEntity;
 import com.chwihae.domain.vote.VoteEntity;
+import com.chwihae.dto.common.request.Cursor;
+import com.chwihae.dto.question.response.QuestionDetailResponse;
 import com.chwihae.dto.question.response.QuestionListResponse;
+import com.chwihae.infra.fixture.QuestionStatsFixture;
 import com.chwihae.infra.fixture.UserEntityFixture;
 import com.chwihae.infra.test.AbstractIntegrationTest;
 import org.assertj.core.api.Assertions;
@@ -12,11 +15,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static com.chwihae.domain.question.QuestionStatus.IN_PROGRESS;
 import static com.chwihae.domain.question.QuestionType.*;
@@ -24,6 +30,41 @@ import static com.chwihae.domain.question.QuestionType.*;
 @Transactional
 class QuestionRepositoryExtensionTest extends AbstractIntegrationTest {
 
+    @Test
+    @DisplayName("질문 아이디로 질문 상세와 카운트, 북마크 여부를 한 번에 조회한다")
+    void findDetailById_returnsDetailWithCounts() throws Exception {
+        //given
+        UserEntity author = userRepository.save(UserEntityFixture.of());
+        UserEntity viewer = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(createQuestion(author, SPEC));
+        questionStatsRepository.save(QuestionStatsFixture.of(question));
+        bookmarkRepository.save(createBookmark(viewer, question));
+        questionStatsRepository.increaseBookmarkCount(question.getId());
+
+        //when
+        Optional<QuestionDetailResponse> response = questionRepository.findDetailById(question.getId(), viewer.getId());
+
+        //then
+        Assertions.assertThat(response).hasValueSatisfying(it -> {
+            Assertions.assertThat(it)
+                    .extracting("id", "title", "bookmarkCount", "commentCount", "voteCount", "bookmarked", "editable")
+                    .containsExactly(question.getId(), question.getTitle(), 1, 0, 0, true, false);
+        });
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 질문 아이디로 상세를 조회하면 empty를 반환한다")
+    void findDetailById_withNotExistingQuestionId_returnsEmpty() throws Exception {
+        //given
+        long notExistingQuestionId = 0L;
+
+        //when
+        Optional<QuestionDetailResponse> response = questionRepository.findDetailById(notExistingQuestionId, 0L);
+
+        //then
+        Assertions.assertThat(response).isEmpty();
+    }
+
     @Test
     @DisplayName("상태,타입으로 질문 리스트를 페이지네이션으로 조회한다")
     void findByStatusAndType_returnsPagination() throws Exception {
@@ -50,6 +91,36 @@ class QuestionRepositoryExtensionTest extends AbstractIntegrationTest {
         Assertions.assertThat(response.getContent()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("커서 이후의 질문 리스트를 최신순으로 조회한다")
+    void findByTypeAndStatusWithCountsAfterCursor_returnsSlice() throws Exception {
+        //given
+        final int SIZE = 2;
+
+        UserEntity userEntity = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question1 = createQuestion(userEntity, SPEC);
+        QuestionEntity question2 = createQuestion(userEntity, COMPANY);
+        QuestionEntity question3 = createQuestion(userEntity, ETC);
+        QuestionEntity question4 = createQuestion(userEntity, SPEC);
+        QuestionEntity question5 = createQuestion(userEntity, CAREER);
+        questionRepository.saveAll(List.of(question1, question2, question3, question4, question5));
+
+        //when
+        List<Long> fetchedIds = new ArrayList<>();
+        Cursor cursor = null;
+        Slice<QuestionListResponse> slice;
+        do {
+            slice = questionRepository.findByTypeAndStatusWithCountsAfterCursor(IN_PROGRESS, null, cursor, SIZE);
+            slice.getContent().forEach(it -> fetchedIds.add(it.getId()));
+            QuestionListResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            cursor = Cursor.of(last.getCreatedAt(), last.getId());
+        } while (slice.hasNext());
+
+        //then
+        Assertions.assertThat(fetchedIds)
+                .containsExactly(question5.getId(), question4.getId(), question3.getId(), question2.getId(), question1.getId());
+    }
+
     @Test
     @DisplayName("사용자 아이디로 사용자가 작성한 질문 리스트를 페이지네이션으로 조회한다")
     void findMyByUserIdWithCounts_returnPagination() throws Exception {
@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 
 @Transactional
 class QuestionRepositoryTest extends AbstractIntegrationTest {
@@ -46,6 +47,24 @@ class QuestionRepositoryTest extends AbstractIntegrationTest {
         Assertions.assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("주어진 시각 전에 마감되는 진행 중인 질문만 조회한다")
+    void findByStatusAndCloseAtBefore_returnsQuestionsClosingBefore() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        QuestionEntity closingSoon = questionRepository.save(createQuestion(user, now.plusMinutes(5)));
+        questionRepository.save(createQuestion(user, now.plusHours(1)));
+
+        //when
+        List<QuestionCloseAt> result = questionRepository.findByStatusAndCloseAtBefore(QuestionStatus.IN_PROGRESS, now.plusMinutes(10));
+
+        //then
+        Assertions.assertThat(result)
+                .extracting(QuestionCloseAt::getId)
+                .containsExactly(closingSoon.getId());
+    }
+
     public QuestionEntity createQuestion(UserEntity userEntity, LocalDateTime closeAt) {
         return QuestionEntity.builder()
                 .userEntity(userEntity)
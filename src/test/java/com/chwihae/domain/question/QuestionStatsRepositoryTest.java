@@ -0,0 +1,60 @@
+package com.chwihae.domain.question;
+
+import com.chwihae.domain.user.UserEntity;
+import com.chwihae.infra.fixture.QuestionEntityFixture;
+import com.chwihae.infra.fixture.QuestionStatsFixture;
+import com.chwihae.infra.fixture.UserEntityFixture;
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+class QuestionStatsRepositoryTest extends AbstractIntegrationTest {
+
+    @Test
+    @DisplayName("질문 아이디로 투표, 댓글, 저장 수를 1 증가시킨다")
+    void increaseCounts() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(user));
+        QuestionStatsEntity questionStats = questionStatsRepository.save(QuestionStatsFixture.of(question));
+
+        //when
+        questionStatsRepository.increaseVoteCount(question.getId());
+        questionStatsRepository.increaseCommentCount(question.getId());
+        questionStatsRepository.increaseCommentCount(question.getId());
+        questionStatsRepository.increaseBookmarkCount(question.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        Assertions.assertThat(questionStatsRepository.findById(questionStats.getId()).get())
+                .extracting("voteCount", "commentCount", "bookmarkCount")
+                .containsExactly(1, 2, 1);
+    }
+
+    @Test
+    @DisplayName("질문 아이디로 투표, 댓글, 저장 수를 감소시켜도 0 미만이 되지 않는다")
+    void decreaseCounts_doesNotGoBelowZero() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(user));
+        QuestionStatsEntity questionStats = questionStatsRepository.save(QuestionStatsFixture.of(question));
+        questionStatsRepository.increaseVoteCount(question.getId());
+
+        //when
+        questionStatsRepository.decreaseVoteCount(question.getId());
+        questionStatsRepository.decreaseVoteCount(question.getId());
+        questionStatsRepository.decreaseCommentCount(question.getId());
+        questionStatsRepository.decreaseBookmarkCount(question.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        Assertions.assertThat(questionStatsRepository.findById(questionStats.getId()).get())
+                .extracting("voteCount", "commentCount", "bookmarkCount")
+                .containsExactly(0, 0, 0);
+    }
+}
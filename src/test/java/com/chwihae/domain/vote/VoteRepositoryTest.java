@@ -179,31 +179,6 @@ class VoteRepositoryTest extends AbstractIntegrationTest {
         voteRepository.delete(vote);
     }
 
-    @Test
-    @DisplayName("질문 아이디로 투표 수를 집계한다")
-    void countByQuestionEntityId_returnCount() throws Exception {
-        //given
-        UserEntity questioner = UserEntityFixture.of();
-        UserEntity voter1 = UserEntityFixture.of();
-        UserEntity voter2 = UserEntityFixture.of();
-        UserEntity voter3 = UserEntityFixture.of();
-        userRepository.saveAll(List.of(questioner, voter1, voter2, voter3));
-
-        QuestionEntity question = questionRepository.save(createQuestion(questioner));
-        OptionEntity option = optionRepository.save(createOption(question));
-
-        VoteEntity vote1 = createVote(option, voter1);
-        VoteEntity vote2 = createVote(option, voter2);
-        VoteEntity vote3 = createVote(option, voter3);
-        voteRepository.saveAll(List.of(vote1, vote2, vote3));
-
-        //when
-        long voteCount = voteRepository.countByQuestionEntityId(question.getId());
-
-        //then
-        Assertions.assertThat(voteCount).isEqualTo(3L);
-    }
-
     @Test
     @DisplayName("사용자 아이디로 투표 수를 집계한다")
     void countByUserEntityId_returnCount() throws Exception {
@@ -0,0 +1,122 @@
+package com.chwihae.event.question;
+
+import com.chwihae.infra.test.AbstractMockTest;
+import com.chwihae.service.question.core.QuestionViewService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class QuestionViewCountBufferTest extends AbstractMockTest {
+
+    @InjectMocks
+    private QuestionViewCountBuffer questionViewCountBuffer;
+
+    @Mock
+    private QuestionViewService questionViewService;
+
+    @Mock
+    private Executor asyncTaskExecutor;
+
+    @Test
+    @DisplayName("버퍼에 쌓인 조회 수를 질문별로 합산하여 한 번에 반영한다")
+    void flush_aggregatesViewCounts() throws Exception {
+        //given
+        questionViewCountBuffer.add(1L);
+        questionViewCountBuffer.add(1L);
+        questionViewCountBuffer.add(1L);
+        questionViewCountBuffer.add(2L);
+
+        //when
+        questionViewCountBuffer.flush();
+
+        //then
+        verify(questionViewService, times(1)).incrementViewCounts(Map.of(1L, 3L, 2L, 1L));
+        Assertions.assertThat(questionViewCountBuffer.getBufferedCount()).isEqualTo(4L);
+        Assertions.assertThat(questionViewCountBuffer.getFlushedCount()).isEqualTo(4L);
+        Assertions.assertThat(questionViewCountBuffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어있으면 조회 수를 반영하지 않는다")
+    void flush_whenEmpty_doesNothing() throws Exception {
+        //when
+        questionViewCountBuffer.flush();
+
+        //then
+        verify(questionViewService, never()).incrementViewCounts(any());
+    }
+
+    @Test
+    @DisplayName("조회 수 반영에 실패하면 버퍼에 되돌려 다음 flush 때 다시 반영한다")
+    void flush_whenFailed_retriesOnNextFlush() throws Exception {
+        //given
+        questionViewCountBuffer.add(1L);
+        questionViewCountBuffer.add(1L);
+        doThrow(new IllegalStateException()).doNothing().when(questionViewService).incrementViewCounts(any());
+
+        //when
+        questionViewCountBuffer.flush();
+        questionViewCountBuffer.flush();
+
+        //then
+        verify(questionViewService, times(2)).incrementViewCounts(Map.of(1L, 2L));
+        Assertions.assertThat(questionViewCountBuffer.getFlushedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("일부 질문만 반영하고 실패하면 반영되지 않은 조회 수만 다음 flush 때 다시 반영한다")
+    void flush_whenPartiallyFailed_retriesOnlyRemaining() throws Exception {
+        //given
+        questionViewCountBuffer.add(1L);
+        questionViewCountBuffer.add(2L);
+        questionViewCountBuffer.add(2L);
+        List<Map<Long, Long>> requested = new ArrayList<>();
+        doAnswer(invocation -> {
+            Map<Long, Long> pending = invocation.getArgument(0);
+            requested.add(Map.copyOf(pending));
+            pending.remove(1L);
+            throw new IllegalStateException();
+        }).doAnswer(invocation -> {
+            requested.add(Map.copyOf(invocation.getArgument(0)));
+            return null;
+        }).when(questionViewService).incrementViewCounts(any());
+
+        //when
+        questionViewCountBuffer.flush();
+        questionViewCountBuffer.flush();
+
+        //then
+        Assertions.assertThat(requested).containsExactly(Map.of(1L, 1L, 2L, 2L), Map.of(2L, 2L));
+        Assertions.assertThat(questionViewCountBuffer.getFlushedCount()).isEqualTo(3L);
+        Assertions.assertThat(questionViewCountBuffer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("누적된 조회 수가 임계치에 도달하면 요청 스레드가 아닌 비동기 실행기에서 반영한다")
+    void add_whenThresholdReached_flushesAsynchronously() throws Exception {
+        //given
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(asyncTaskExecutor).execute(any());
+
+        //when
+        for (long i = 0; i < QuestionViewCountBuffer.FLUSH_THRESHOLD; i++) {
+            questionViewCountBuffer.add(1L);
+        }
+
+        //then
+        verify(asyncTaskExecutor, times(1)).execute(any());
+        verify(questionViewService, times(1)).incrementViewCounts(Map.of(1L, QuestionViewCountBuffer.FLUSH_THRESHOLD));
+    }
+}
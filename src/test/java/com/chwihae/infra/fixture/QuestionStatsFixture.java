@@ -0,0 +1,12 @@
+package com.chwihae.infra.fixture;
+
+import com.chwihae.domain.question.QuestionEntity;
+import com.chwihae.domain.question.QuestionStatsEntity;
+
+public abstract class QuestionStatsFixture {
+    public static QuestionStatsEntity of(QuestionEntity questionEntity) {
+        return QuestionStatsEntity.builder()
+                .questionEntity(questionEntity)
+                .build();
+    }
+}
@@ -17,9 +17,12 @@ public abstract class AbstractContainerBaseTest {
     static final String REDIS_SERVICE_NAME = "redis_1";
     static final int MARIADB_SERVICE_PORT = 3306;
     static final int REDIS_SERVICE_PORT = 6379;
+    static final String SKIP_PULL_PROPERTY = "loadtest.skip-pull";
 
     static {
+        // 부하 테스트는 로컬에 받아 둔 이미지를 그대로 사용할 수 있도록 loadTest 태스크에서만 이미지 pull 을 건너뛴다
         DOCKER_COMPOSE_CONTAINER = new DockerComposeContainer(new File("docker-compose-test.yml"))
+                .withPull(!Boolean.getBoolean(SKIP_PULL_PROPERTY))
                 .withExposedService(MARIADB_SERVICE_NAME, MARIADB_SERVICE_PORT, Wait.forListeningPort().withStartupTimeout(Duration.ofSeconds(30)))
                 .withExposedService(REDIS_SERVICE_NAME, REDIS_SERVICE_PORT, Wait.forListeningPort().withStartupTimeout(Duration.ofSeconds(30)));
         DOCKER_COMPOSE_CONTAINER.start();
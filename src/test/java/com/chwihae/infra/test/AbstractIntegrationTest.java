@@ -6,6 +6,9 @@ import com.chwihae.client.kakao.KakaoUserInfoFeignClient;
 import com.chwihae.config.properties.JwtTokenProperties;
 import com.chwihae.config.redis.QuestionViewCacheRepository;
 import com.chwihae.config.redis.UserContextCacheRepository;
+import com.chwihae.config.redis.UserStatsCacheRepository;
+import com.chwihae.config.redis.VoteStreamRepository;
+import com.chwihae.config.redis.VoteTallyCacheRepository;
 import com.chwihae.config.security.JwtTokenHandler;
 import com.chwihae.domain.bookmark.BookmarkRepository;
 import com.chwihae.domain.comment.CommentRepository;
@@ -13,8 +16,10 @@ import com.chwihae.domain.commenter.CommenterAliasRepository;
 import com.chwihae.domain.commenter.CommenterSequenceRepository;
 import com.chwihae.domain.option.OptionRepository;
 import com.chwihae.domain.question.QuestionRepository;
+import com.chwihae.domain.question.QuestionStatsRepository;
 import com.chwihae.domain.question.QuestionViewRepository;
 import com.chwihae.domain.user.UserRepository;
+import com.chwihae.domain.user.UserStatsRepository;
 import com.chwihae.domain.vote.VoteRepository;
 import com.chwihae.dto.user.UserContext;
 import com.chwihae.event.question.QuestionViewEventListener;
@@ -75,6 +80,12 @@ public class AbstractIntegrationTest extends AbstractContainerBaseTest {
     @Autowired
     protected UserRepository userRepository;
 
+    @Autowired
+    protected UserStatsRepository userStatsRepository;
+
+    @Autowired
+    protected UserStatsCacheRepository userStatsCacheRepository;
+
     @Autowired
     protected CommenterSequenceService commenterSequenceService;
 
@@ -105,12 +116,21 @@ public class AbstractIntegrationTest extends AbstractContainerBaseTest {
     @Autowired
     protected QuestionViewRepository questionViewRepository;
 
+    @Autowired
+    protected QuestionStatsRepository questionStatsRepository;
+
     @Autowired
     protected QuestionViewCacheRepository questionViewCacheRepository;
 
     @Autowired
     protected UserContextCacheRepository userContextCacheRepository;
 
+    @Autowired
+    protected VoteTallyCacheRepository voteTallyCacheRepository;
+
+    @Autowired
+    protected VoteStreamRepository voteStreamRepository;
+
     @Autowired
     protected RedisTemplate<String, UserContext> userContextRedisTemplate;
 
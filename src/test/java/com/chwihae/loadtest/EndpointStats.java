@@ -0,0 +1,15 @@
+package com.chwihae.loadtest;
+
+public record EndpointStats(String endpoint,
+                            long count,
+                            long errors,
+                            double p50Millis,
+                            double p95Millis,
+                            double p99Millis,
+                            double throughputPerSecond) {
+
+    public double errorRate() {
+        long total = count + errors;
+        return total == 0 ? 0 : (double) errors / total;
+    }
+}
@@ -0,0 +1,59 @@
+package com.chwihae.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<LoadTestEndpoint, Queue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<LoadTestEndpoint, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void recordSuccess(LoadTestEndpoint endpoint, long elapsedNanos) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentLinkedQueue<>()).add(elapsedNanos);
+    }
+
+    public void recordError(LoadTestEndpoint endpoint) {
+        errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+
+    public List<EndpointStats> summarize(Duration measuredDuration) {
+        double seconds = measuredDuration.toMillis() / 1000.0;
+        return Arrays.stream(LoadTestEndpoint.values())
+                .filter(endpoint -> latencies.containsKey(endpoint) || errors.containsKey(endpoint))
+                .map(endpoint -> summarize(endpoint, seconds))
+                .toList();
+    }
+
+    private EndpointStats summarize(LoadTestEndpoint endpoint, double seconds) {
+        long[] sorted = latencies.getOrDefault(endpoint, new ConcurrentLinkedQueue<>()).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        long errorCount = errors.containsKey(endpoint) ? errors.get(endpoint).sum() : 0;
+        return new EndpointStats(
+                endpoint.getKey(),
+                sorted.length,
+                errorCount,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.95),
+                percentile(sorted, 0.99),
+                seconds == 0 ? 0 : sorted.length / seconds);
+    }
+
+    // nearest-rank 방식의 백분위수
+    private double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,35 @@
+package com.chwihae.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Random;
+
+@RequiredArgsConstructor
+@Getter
+public enum LoadTestEndpoint {
+    FEED_PAGE("feed-page", 10),
+    FEED_CURSOR("feed-cursor", 25),
+    DETAIL("detail", 35),
+    VOTE("vote", 10),
+    COMMENT("comment", 10),
+    BOOKMARK("bookmark", 10);
+
+    private static final LoadTestEndpoint[] ENDPOINTS = values();
+    private static final int TOTAL_WEIGHT = 100;
+
+    private final String key;
+    private final int weight;
+
+    // 가중치 비율대로 실제 서비스의 요청 분포를 흉내 낸다
+    public static LoadTestEndpoint pick(Random random) {
+        int point = random.nextInt(TOTAL_WEIGHT);
+        for (LoadTestEndpoint endpoint : ENDPOINTS) {
+            point -= endpoint.weight;
+            if (point < 0) {
+                return endpoint;
+            }
+        }
+        return DETAIL;
+    }
+}
@@ -0,0 +1,54 @@
+package com.chwihae.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class LoadTestSlo {
+
+    private static final String RESOURCE = "/loadtest/slo.properties";
+    private static final String OVERRIDE_PREFIX = "loadtest.slo.";
+    private static final String DEFAULT_KEY = "default";
+
+    private final Properties thresholds;
+
+    private LoadTestSlo(Properties thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    public static LoadTestSlo load() {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestSlo.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        // -Dloadtest.slo.detail.p95=100 처럼 실행 시점에 임계치를 덮어쓸 수 있다
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(OVERRIDE_PREFIX))
+                .forEach(name -> properties.setProperty(name.substring(OVERRIDE_PREFIX.length()), System.getProperty(name)));
+        return new LoadTestSlo(properties);
+    }
+
+    public List<String> violations(EndpointStats stats) {
+        List<String> violations = new ArrayList<>();
+        check(violations, stats, "p50", stats.p50Millis());
+        check(violations, stats, "p95", stats.p95Millis());
+        check(violations, stats, "p99", stats.p99Millis());
+        check(violations, stats, "error-rate", stats.errorRate());
+        return violations;
+    }
+
+    private void check(List<String> violations, EndpointStats stats, String metric, double actual) {
+        String threshold = thresholds.getProperty(stats.endpoint() + "." + metric,
+                thresholds.getProperty(DEFAULT_KEY + "." + metric));
+        if (threshold != null && actual > Double.parseDouble(threshold)) {
+            violations.add(String.format("%s %s: %.2f > %s", stats.endpoint(), metric, actual, threshold));
+        }
+    }
+}
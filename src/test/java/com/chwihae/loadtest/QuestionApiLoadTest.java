@@ -0,0 +1,355 @@
+package com.chwihae.loadtest;
+
+import com.chwihae.config.properties.JwtTokenProperties;
+import com.chwihae.config.redis.QuestionViewCacheRepository;
+import com.chwihae.config.redis.UserStatsCacheRepository;
+import com.chwihae.config.redis.VoteTallyCacheRepository;
+import com.chwihae.config.security.JwtTokenHandler;
+import com.chwihae.domain.bookmark.BookmarkRepository;
+import com.chwihae.domain.comment.CommentRepository;
+import com.chwihae.domain.commenter.CommenterAliasRepository;
+import com.chwihae.domain.commenter.CommenterSequenceRepository;
+import com.chwihae.domain.option.OptionEntity;
+import com.chwihae.domain.option.OptionRepository;
+import com.chwihae.domain.question.QuestionRepository;
+import com.chwihae.domain.question.QuestionStatsRepository;
+import com.chwihae.domain.question.QuestionType;
+import com.chwihae.domain.question.QuestionViewRepository;
+import com.chwihae.domain.user.UserRepository;
+import com.chwihae.domain.user.UserStatsRepository;
+import com.chwihae.domain.vote.VoteRepository;
+import com.chwihae.dto.option.request.OptionCreateRequest;
+import com.chwihae.dto.question.request.QuestionCreateRequest;
+import com.chwihae.infra.support.IntegrationTestSupport;
+import com.chwihae.infra.test.AbstractContainerBaseTest;
+import com.chwihae.service.question.QuestionService;
+import com.chwihae.service.user.UserService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Tag("load")
+@IntegrationTestSupport
+class QuestionApiLoadTest extends AbstractContainerBaseTest {
+
+    // -Dloadtest.users=64 -Dloadtest.duration-seconds=60 처럼 실행 시점에 조절한다
+    private static final int VIRTUAL_USERS = Integer.getInteger("loadtest.users", 32);
+    private static final int QUESTION_COUNT = Integer.getInteger("loadtest.questions", 200);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final long SEED = Long.getLong("loadtest.seed", 42L);
+    private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "loadtest");
+    private static final String PLATFORM_MODE = "platform";
+    private static final String VIRTUAL_MODE = "virtual";
+    private static final String BASE_PATH = "/api/v1/questions";
+
+    @LocalServerPort
+    int port;
+
+    @Value("${virtual-threads.enabled:false}")
+    boolean virtualThreadsEnabled;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    JwtTokenHandler jwtTokenHandler;
+
+    @Autowired
+    JwtTokenProperties jwtTokenProperties;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    QuestionService questionService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    UserStatsRepository userStatsRepository;
+
+    @Autowired
+    QuestionRepository questionRepository;
+
+    @Autowired
+    QuestionStatsRepository questionStatsRepository;
+
+    @Autowired
+    QuestionViewRepository questionViewRepository;
+
+    @Autowired
+    OptionRepository optionRepository;
+
+    @Autowired
+    VoteRepository voteRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    CommenterAliasRepository commenterAliasRepository;
+
+    @Autowired
+    CommenterSequenceRepository commenterSequenceRepository;
+
+    @Autowired
+    BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    QuestionViewCacheRepository questionViewCacheRepository;
+
+    @Autowired
+    VoteTallyCacheRepository voteTallyCacheRepository;
+
+    @Autowired
+    UserStatsCacheRepository userStatsCacheRepository;
+
+    HttpClient httpClient;
+    List<String> tokens;
+    List<Long> questionIds;
+    Map<Long, List<Long>> optionIdsByQuestionId;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Long> userIds = IntStream.range(0, VIRTUAL_USERS)
+                .mapToObj(idx -> userService.getOrCreateUser("load-test-" + idx + "@chwihae.com").getId())
+                .toList();
+        tokens = userIds.stream()
+                .map(userId -> jwtTokenHandler.generateToken(userId, jwtTokenProperties.getSecretKey(), jwtTokenProperties.getTokenExpiredTimeMs()))
+                .toList();
+
+        Random random = new Random(SEED);
+        QuestionType[] types = QuestionType.values();
+        LocalDateTime closeAt = LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusDays(1).withNano(0);
+        questionIds = IntStream.range(0, QUESTION_COUNT)
+                .mapToObj(idx -> questionService.createQuestion(QuestionCreateRequest.builder()
+                                .title("title" + idx)
+                                .content("content" + idx)
+                                .type(types[random.nextInt(types.length)])
+                                .closeAt(closeAt)
+                                .options(List.of(
+                                        OptionCreateRequest.builder().name("option1").build(),
+                                        OptionCreateRequest.builder().name("option2").build(),
+                                        OptionCreateRequest.builder().name("option3").build()))
+                                .build(),
+                        userIds.get(idx % VIRTUAL_USERS)))
+                .toList();
+
+        optionIdsByQuestionId = optionRepository.findAll().stream()
+                .collect(Collectors.groupingBy(option -> option.getQuestionEntity().getId(),
+                        Collectors.mapping(OptionEntity::getId, Collectors.toList())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionViewCacheRepository.clear();
+        voteTallyCacheRepository.clear();
+        userStatsCacheRepository.clear();
+        bookmarkRepository.physicallyDeleteAll();
+        commentRepository.physicallyDeleteAll();
+        commenterAliasRepository.physicallyDeleteAll();
+        commenterSequenceRepository.physicallyDeleteAll();
+        voteRepository.physicallyDeleteAll();
+        optionRepository.physicallyDeleteAll();
+        questionStatsRepository.physicallyDeleteAll();
+        questionViewRepository.physicallyDeleteAll();
+        questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
+        userRepository.physicallyDeleteAll();
+    }
+
+    @Test
+    @DisplayName("다수의 가상 사용자가 피드 조회, 상세 조회, 투표, 댓글, 북마크를 섞어 요청해도 엔드포인트별 SLO 를 만족한다")
+    void questionApi_mixedWorkload_meetsSlo() throws Exception {
+        //given
+        LatencyRecorder recorder = new LatencyRecorder();
+        long measureStartNanos = System.nanoTime() + Duration.ofSeconds(WARMUP_SECONDS).toNanos();
+        long deadlineNanos = measureStartNanos + Duration.ofSeconds(DURATION_SECONDS).toNanos();
+        ExecutorService executorService = Executors.newFixedThreadPool(VIRTUAL_USERS);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int idx = 0; idx < VIRTUAL_USERS; idx++) {
+            VirtualUser virtualUser = new VirtualUser(tokens.get(idx), new Random(SEED + idx));
+            futures.add(executorService.submit(() -> virtualUser.run(recorder, measureStartNanos, deadlineNanos)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        //then
+        List<EndpointStats> summary = recorder.summarize(Duration.ofSeconds(DURATION_SECONDS));
+        writeReport(summary);
+
+        LoadTestSlo slo = LoadTestSlo.load();
+        List<String> violations = summary.stream()
+                .flatMap(stats -> slo.violations(stats).stream())
+                .toList();
+        Assertions.assertThat(summary).isNotEmpty();
+        Assertions.assertThat(violations).isEmpty();
+    }
+
+    private void writeReport(List<EndpointStats> summary) throws IOException {
+        String mode = virtualThreadsEnabled ? VIRTUAL_MODE : PLATFORM_MODE;
+        summary.forEach(stats -> log.info("[load-test:{}] {} count={} errors={} p50={}ms p95={}ms p99={}ms throughput={}/s",
+                mode, stats.endpoint(), stats.count(), stats.errors(),
+                String.format("%.2f", stats.p50Millis()), String.format("%.2f", stats.p95Millis()),
+                String.format("%.2f", stats.p99Millis()), String.format("%.1f", stats.throughputPerSecond())));
+        Files.createDirectories(REPORT_DIRECTORY);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath(mode).toFile(), summary);
+        compareWithOtherMode(mode, summary);
+    }
+
+    // 다른 실행 모드의 결과가 있으면 엔드포인트별 처리량을 비교해 남긴다
+    private void compareWithOtherMode(String mode, List<EndpointStats> summary) throws IOException {
+        Path otherReport = reportPath(virtualThreadsEnabled ? PLATFORM_MODE : VIRTUAL_MODE);
+        if (!Files.exists(otherReport)) {
+            return;
+        }
+        Map<String, EndpointStats> others = objectMapper.readValue(otherReport.toFile(), new TypeReference<List<EndpointStats>>() {
+                }).stream()
+                .collect(Collectors.toMap(EndpointStats::endpoint, Function.identity()));
+        summary.stream()
+                .filter(stats -> others.containsKey(stats.endpoint()) && others.get(stats.endpoint()).throughputPerSecond() > 0)
+                .forEach(stats -> log.info("[load-test:{}] {} throughput x{} p99 {}ms -> {}ms compared to the other mode",
+                        mode, stats.endpoint(),
+                        String.format("%.2f", stats.throughputPerSecond() / others.get(stats.endpoint()).throughputPerSecond()),
+                        String.format("%.2f", others.get(stats.endpoint()).p99Millis()), String.format("%.2f", stats.p99Millis())));
+    }
+
+    private Path reportPath(String mode) {
+        return REPORT_DIRECTORY.resolve("summary-" + mode + ".json");
+    }
+
+    private class VirtualUser {
+
+        private final String token;
+        private final Random random;
+        private final Set<Long> votedQuestionIds = new HashSet<>();
+
+        VirtualUser(String token, Random random) {
+            this.token = token;
+            this.random = random;
+        }
+
+        void run(LatencyRecorder recorder, long measureStartNanos, long deadlineNanos) {
+            while (System.nanoTime() < deadlineNanos) {
+                LoadTestEndpoint endpoint = LoadTestEndpoint.pick(random);
+                Long questionId = pickQuestionId();
+                // 이미 투표한 질문에 다시 투표하면 중복 투표 오류가 나므로 상세 조회로 대신한다
+                if (endpoint == LoadTestEndpoint.VOTE && votedQuestionIds.contains(questionId)) {
+                    endpoint = LoadTestEndpoint.DETAIL;
+                }
+                HttpRequest request = buildRequest(endpoint, questionId);
+
+                long start = System.nanoTime();
+                boolean success = send(request);
+                long elapsed = System.nanoTime() - start;
+
+                if (endpoint == LoadTestEndpoint.VOTE && success) {
+                    votedQuestionIds.add(questionId);
+                }
+                if (start < measureStartNanos) {
+                    continue;
+                }
+                if (success) {
+                    recorder.recordSuccess(endpoint, elapsed);
+                } else {
+                    recorder.recordError(endpoint);
+                }
+            }
+        }
+
+        // 최근 질문에 트래픽이 몰리도록 앞쪽 인덱스에 가중치를 둔다
+        private Long pickQuestionId() {
+            int index = (int) (questionIds.size() * Math.pow(random.nextDouble(), 2));
+            return questionIds.get(questionIds.size() - 1 - index);
+        }
+
+        private HttpRequest buildRequest(LoadTestEndpoint endpoint, Long questionId) {
+            return switch (endpoint) {
+                case FEED_PAGE -> get(BASE_PATH + "?page=" + random.nextInt(5) + "&size=10");
+                case FEED_CURSOR -> get(BASE_PATH + "/cursor?size=10");
+                case DETAIL -> get(BASE_PATH + "/" + questionId);
+                case VOTE -> {
+                    List<Long> optionIds = optionIdsByQuestionId.get(questionId);
+                    yield post(BASE_PATH + "/" + questionId + "/options/" + optionIds.get(random.nextInt(optionIds.size())), "");
+                }
+                case COMMENT -> post(BASE_PATH + "/" + questionId + "/comments", "{\"content\":\"load test comment\"}");
+                case BOOKMARK -> post(BASE_PATH + "/" + questionId + "/bookmark", "");
+            };
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .timeout(Duration.ofSeconds(10))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private boolean send(HttpRequest request) {
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                return status >= 200 && status < 300;
+            } catch (IOException ex) {
+                return false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.chwihae.loadtest;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.test.context.TestPropertySource;
+
+// 같은 부하를 가상 스레드 모드로 실행해 플랫폼 스레드 모드의 결과와 비교한다 (JDK 21 이상에서만 실행된다)
+@EnabledIf("com.chwihae.config.async.VirtualThreads#isSupported")
+@TestPropertySource(properties = "virtual-threads.enabled=true")
+class VirtualThreadQuestionApiLoadTest extends QuestionApiLoadTest {
+}
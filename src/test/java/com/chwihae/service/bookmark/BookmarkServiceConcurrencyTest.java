@@ -25,6 +25,7 @@ class BookmarkServiceConcurrencyTest extends AbstractConcurrencyTest {
         executorService.shutdown();
         bookmarkRepository.physicallyDeleteAll();
         questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
         userRepository.physicallyDeleteAll();
     }
 
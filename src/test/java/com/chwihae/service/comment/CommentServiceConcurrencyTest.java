@@ -28,6 +28,7 @@ class CommentServiceConcurrencyTest extends AbstractConcurrencyTest {
         commenterAliasRepository.physicallyDeleteAll();
         commenterSequenceRepository.physicallyDeleteAll();
         questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
         userRepository.physicallyDeleteAll();
     }
 
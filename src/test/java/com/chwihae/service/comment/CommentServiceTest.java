@@ -7,6 +7,7 @@ import com.chwihae.domain.commenter.CommenterSequenceEntity;
 import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.user.UserEntity;
 import com.chwihae.dto.comment.Comment;
+import com.chwihae.dto.common.response.CursorSliceResponse;
 import com.chwihae.exception.CustomException;
 import com.chwihae.exception.CustomExceptionError;
 import com.chwihae.infra.fixture.CommentEntityFixture;
@@ -21,6 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -153,6 +155,46 @@ class CommentServiceTest extends AbstractIntegrationTest {
         Assertions.assertThat(comments.getNumber()).isEqualTo(PAGE_NUMBER);
     }
 
+    @Test
+    @DisplayName("질문에 등록된 댓글을 커서로 끝까지 중복 없이 등록 순서대로 조회한다")
+    void getCommentsAfterCursor_returnsAllCommentsInOrder() throws Exception {
+        //given
+        final int USER_COUNT = 5;
+        final int SIZE = 2;
+
+        UserEntity questioner = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(questioner));
+
+        List<UserEntity> users = IntStream.range(0, USER_COUNT)
+                .mapToObj(i -> UserEntityFixture.of())
+                .toList();
+        userRepository.saveAll(users);
+
+        IntStream.range(0, USER_COUNT).forEach(commentIndex -> {
+            CommenterAliasEntity alias = createAlias("alias" + commentIndex, question, users.get(commentIndex));
+            commenterAliasRepository.save(alias);
+            commentRepository.save(CommentEntityFixture.of(users.get(commentIndex), question, alias));
+        });
+        Long viewerId = users.get(0).getId();
+
+        //when
+        List<Comment> comments = new ArrayList<>();
+        String cursor = null;
+        CursorSliceResponse<Comment> response;
+        do {
+            response = commentService.getCommentsAfterCursor(question.getId(), viewerId, cursor, SIZE);
+            comments.addAll(response.getContent());
+            cursor = response.getNextCursor();
+        } while (response.isHasNext());
+
+        //then
+        Assertions.assertThat(comments).hasSize(USER_COUNT);
+        Assertions.assertThat(comments).extracting(Comment::getCommenterAlias)
+                .containsExactly("alias0", "alias1", "alias2", "alias3", "alias4");
+        Assertions.assertThat(comments).filteredOn(Comment::isEditable).hasSize(1);
+        Assertions.assertThat(cursor).isNull();
+    }
+
     @Test
     @DisplayName("존재하지 않는 질문의 댓글을 조회하면 예외가 발생한다")
     void getComments_throwsNotFoundException() throws Exception {
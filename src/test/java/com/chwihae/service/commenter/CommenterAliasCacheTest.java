@@ -0,0 +1,53 @@
+package com.chwihae.service.commenter;
+
+import com.chwihae.domain.commenter.CommenterAliasEntity;
+import com.chwihae.infra.test.AbstractMockTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+class CommenterAliasCacheTest extends AbstractMockTest {
+
+    @Mock
+    CommenterAliasEntity commenterAliasEntity;
+
+    CommenterAliasCache commenterAliasCache = new CommenterAliasCache();
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 저장한 별칭은 질문과 사용자 아이디로 바로 조회된다")
+    void putAfterCommit_withoutTransaction_putsImmediately() throws Exception {
+        //given
+        Mockito.when(commenterAliasEntity.getId()).thenReturn(3L);
+        Mockito.when(commenterAliasEntity.getAlias()).thenReturn("익명1");
+
+        //when
+        commenterAliasCache.putAfterCommit(1L, 2L, commenterAliasEntity);
+
+        //then
+        Assertions.assertThat(commenterAliasCache.get(1L, 2L))
+                .hasValueSatisfying(it -> {
+                    Assertions.assertThat(it.id()).isEqualTo(3L);
+                    Assertions.assertThat(it.alias()).isEqualTo("익명1");
+                });
+        Assertions.assertThat(commenterAliasCache.get(1L, 3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("질문이 삭제되면 해당 질문의 별칭만 캐시에서 제거한다")
+    void evictQuestion() throws Exception {
+        //given
+        Mockito.when(commenterAliasEntity.getId()).thenReturn(3L);
+        Mockito.when(commenterAliasEntity.getAlias()).thenReturn("익명1");
+        commenterAliasCache.putAfterCommit(1L, 2L, commenterAliasEntity);
+        commenterAliasCache.putAfterCommit(10L, 2L, commenterAliasEntity);
+
+        //when
+        commenterAliasCache.evictQuestion(1L);
+
+        //then
+        Assertions.assertThat(commenterAliasCache.get(1L, 2L)).isEmpty();
+        Assertions.assertThat(commenterAliasCache.get(10L, 2L)).isPresent();
+    }
+}
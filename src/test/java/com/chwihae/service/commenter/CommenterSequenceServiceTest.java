@@ -29,6 +29,35 @@ class CommenterSequenceServiceTest extends AbstractIntegrationTest {
         Assertions.assertThat(commenterSequenceRepository.findAll()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("질문의 다음 댓글 작성자 순서를 1 씩 증가시키며 반환한다")
+    void getNextSequence() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(createQuestion(user));
+        commenterSequenceService.createCommenterSequence(question);
+
+        //when
+        int first = commenterSequenceService.getNextSequence(question.getId());
+        int second = commenterSequenceService.getNextSequence(question.getId());
+
+        //then
+        Assertions.assertThat(first).isOne();
+        Assertions.assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("댓글 작성자 순서 정보가 없는 질문이면 예외가 발생한다")
+    void getNextSequence_whenSequenceNotExists_throwsException() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(createQuestion(user));
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> commenterSequenceService.getNextSequence(question.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     public QuestionEntity createQuestion(UserEntity userEntity) {
         return QuestionEntity.builder()
                 .userEntity(userEntity)
@@ -0,0 +1,88 @@
+package com.chwihae.service.question.core;
+
+import com.chwihae.domain.question.QuestionCloseAt;
+import com.chwihae.domain.question.QuestionRepository;
+import com.chwihae.infra.test.AbstractMockTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.chwihae.domain.question.QuestionStatus.IN_PROGRESS;
+import static com.chwihae.utils.TimeUtils.KST;
+
+class QuestionExpiryTimerTest extends AbstractMockTest {
+
+    @Mock
+    QuestionRepository questionRepository;
+
+    @InjectMocks
+    QuestionExpiryTimer questionExpiryTimer;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(questionRepository.findByStatusAndCloseAtBefore(Mockito.eq(IN_PROGRESS), Mockito.any())).thenReturn(List.of());
+        questionExpiryTimer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        questionExpiryTimer.stop();
+    }
+
+    @Test
+    @DisplayName("마감 시간이 지난 질문을 마감한다")
+    void register_withExpiredQuestion_closesQuestion() throws Exception {
+        //given
+        long questionId = 1L;
+
+        //when
+        questionExpiryTimer.register(questionId, LocalDateTime.now(KST).minusSeconds(1));
+
+        //then
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> Mockito.verify(questionRepository).closeAllByIdIn(Mockito.eq(List.of(questionId)), Mockito.any()));
+    }
+
+    @Test
+    @DisplayName("마감 시간이 지나지 않은 질문은 마감하지 않는다")
+    void register_withNotExpiredQuestion_doesNotCloseQuestion() throws Exception {
+        //given
+        long questionId = 1L;
+
+        //when
+        questionExpiryTimer.register(questionId, LocalDateTime.now(KST).plusDays(1));
+
+        //then
+        TimeUnit.MILLISECONDS.sleep(200);
+        Mockito.verify(questionRepository, Mockito.never()).closeAllByIdIn(Mockito.anyList(), Mockito.any());
+        Assertions.assertThat(questionExpiryTimer.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시작할 때 적재 구간 밖이던 질문은 다음 적재 주기에 한 번만 등록한다")
+    void loadUpcoming_withQuestionBeyondStartupWindow_registersOnce() throws Exception {
+        //given
+        QuestionCloseAt question = Mockito.mock(QuestionCloseAt.class);
+        Mockito.when(question.getId()).thenReturn(1L);
+        Mockito.when(question.getCloseAt()).thenReturn(LocalDateTime.now(KST).plusMinutes(15));
+        Mockito.when(questionRepository.findByStatusAndCloseAtBefore(Mockito.eq(IN_PROGRESS), Mockito.any())).thenReturn(List.of(question));
+
+        //when
+        questionExpiryTimer.loadUpcoming();
+        questionExpiryTimer.loadUpcoming();
+
+        //then
+        Assertions.assertThat(questionExpiryTimer.getPendingCount()).isEqualTo(1);
+    }
+}
@@ -23,6 +23,7 @@ class QuestionViewServiceConcurrencyTest extends AbstractConcurrencyTest {
         questionViewCacheRepository.clear();
         questionViewRepository.physicallyDeleteAll();
         questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
         userRepository.physicallyDeleteAll();
     }
 
@@ -59,4 +60,32 @@ class QuestionViewServiceConcurrencyTest extends AbstractConcurrencyTest {
                         }
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조회 수가 캐싱되어 있지 않은 상태에서 동시에 증가 요청해도 정확하게 증가한다")
+    void incrementViewCount_whenNotCached_concurrency() throws Exception {
+        //given
+        final int TOTAL_REQUEST_COUNT = 100;
+        final long INITIAL_VIEW_COUNT = 10L;
+
+        questionViewCacheRepository.clear();
+
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(user));
+        QuestionViewEntity view = QuestionViewFixture.of(question);
+        view.setViewCount(INITIAL_VIEW_COUNT);
+        questionViewRepository.save(view);
+
+        List<Callable<Void>> incrementViewCountTasks = doGenerateConcurrentTasks(TOTAL_REQUEST_COUNT, () -> {
+            questionViewService.incrementViewCount(question.getId());
+            return null;
+        });
+
+        //when
+        executorService.invokeAll(incrementViewCountTasks);
+
+        //then
+        Assertions.assertThat(questionViewCacheRepository.getViewCount(question.getId()))
+                .hasValue(INITIAL_VIEW_COUNT + TOTAL_REQUEST_COUNT);
+    }
+}
@@ -4,6 +4,7 @@ import com.chwihae.domain.question.QuestionEntity;
 import com.chwihae.domain.question.QuestionViewEntity;
 import com.chwihae.domain.user.UserEntity;
 import com.chwihae.dto.question.response.QuestionViewResponse;
+import com.chwihae.event.question.QuestionViewCountBuffer;
 import com.chwihae.exception.CustomException;
 import com.chwihae.infra.fixture.QuestionEntityFixture;
 import com.chwihae.infra.fixture.QuestionViewFixture;
@@ -13,6 +14,9 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -25,6 +29,12 @@ import static org.assertj.core.groups.Tuple.tuple;
 @Transactional
 class QuestionViewServiceIntegrationTest extends AbstractIntegrationTest {
 
+    @Autowired
+    QuestionViewCountBuffer questionViewCountBuffer;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
     @AfterEach
     void tearDown() {
         questionViewCacheRepository.clear();
@@ -111,6 +121,30 @@ class QuestionViewServiceIntegrationTest extends AbstractIntegrationTest {
                 });
     }
 
+    @Test
+    @DisplayName("Redis 에 스크립트가 적재되어 있지 않아도 버퍼에 쌓인 조회 수를 캐시에 반영한다")
+    void flushBuffer_whenScriptCacheFlushed_incrementsViewCount() {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(user));
+        questionViewService.createQuestionView(question);
+        questionViewCacheRepository.setViewCount(question.getId(), 0L);
+        stringRedisTemplate.execute((RedisCallback<String>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+        questionViewCountBuffer.add(question.getId());
+        questionViewCountBuffer.add(question.getId());
+
+        //when
+        questionViewCountBuffer.flush();
+
+        //then
+        assertThat(questionViewCountBuffer.getPendingCount()).isZero();
+        assertThat(questionViewCacheRepository.getViewCount(question.getId()))
+                .hasValueSatisfying(it -> assertThat(it).isEqualTo(2L));
+    }
+
     @Test
     @DisplayName("캐싱 되어있는 질문 아이디 리스트가 없으면 질문 조회 엔티티 리스트를 반환받는다")
     void findViewCountsByQuestionEntityIds_returnList() throws Exception {
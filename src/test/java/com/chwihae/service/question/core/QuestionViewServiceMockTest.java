@@ -13,10 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -36,9 +33,6 @@ class QuestionViewServiceMockTest extends AbstractMockTest {
     @Mock
     private QuestionViewCacheRepository questionViewCacheRepository;
 
-    @Mock
-    private RedisTemplate<String, String> questionViewLockRedisTemplate;
-
     @Test
     @DisplayName("질문 조회 엔티티를 저장한다")
     void createQuestionView() {
@@ -95,16 +89,15 @@ class QuestionViewServiceMockTest extends AbstractMockTest {
         // given
         Long givenQuestionId = 1L;
 
-        ValueOperations<String, String> opsMock = mock(ValueOperations.class);
-        when(questionViewLockRedisTemplate.opsForValue()).thenReturn(opsMock);
-        when(opsMock.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
-        when(questionViewCacheRepository.existsByQuestionId(givenQuestionId)).thenReturn(true);
+        when(questionViewCacheRepository.incrementViewCountIfExists(givenQuestionId)).thenReturn(Optional.of(1L));
 
         // when
         questionViewService.incrementViewCount(givenQuestionId);
 
         // then
-        verify(questionViewCacheRepository).incrementViewCount(givenQuestionId);
+        verify(questionViewCacheRepository).incrementViewCountIfExists(givenQuestionId);
+        verify(questionViewRepository, never()).findViewCountByQuestionEntityId(any());
+        verify(questionViewCacheRepository, never()).initializeAndIncrementViewCount(any(), any());
     }
 
     @Test
@@ -114,19 +107,14 @@ class QuestionViewServiceMockTest extends AbstractMockTest {
         Long givenQuestionId = 1L;
         Long givenViewCount = 100L;
 
-        // given
-        ValueOperations<String, String> opsMock = mock(ValueOperations.class);
-        when(questionViewLockRedisTemplate.opsForValue()).thenReturn(opsMock);
-        when(opsMock.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
-        when(questionViewCacheRepository.existsByQuestionId(givenQuestionId)).thenReturn(false);
+        when(questionViewCacheRepository.incrementViewCountIfExists(givenQuestionId)).thenReturn(Optional.empty());
         when(questionViewRepository.findViewCountByQuestionEntityId(givenQuestionId)).thenReturn(Optional.of(givenViewCount));
 
         // when
         questionViewService.incrementViewCount(givenQuestionId);
 
         // then
-        verify(questionViewCacheRepository).setViewCount(givenQuestionId, givenViewCount);
-        verify(questionViewCacheRepository).incrementViewCount(givenQuestionId);
+        verify(questionViewCacheRepository).initializeAndIncrementViewCount(givenQuestionId, givenViewCount);
     }
 
     @Test
@@ -146,6 +134,8 @@ class QuestionViewServiceMockTest extends AbstractMockTest {
 
         //then
         verify(questionViewRepository, times(1)).findByQuestionEntityIds(any());
+        verify(questionViewCacheRepository, times(1)).setViewCounts(any());
+        verify(questionViewCacheRepository, never()).setViewCount(any(), any());
     }
 
     @Test
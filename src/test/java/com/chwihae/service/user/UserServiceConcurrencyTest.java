@@ -17,6 +17,7 @@ class UserServiceConcurrencyTest extends AbstractConcurrencyTest {
     @AfterEach
     void tearDown() {
         executorService.shutdown();
+        userStatsRepository.physicallyDeleteAll();
         userRepository.physicallyDeleteAll();
     }
 
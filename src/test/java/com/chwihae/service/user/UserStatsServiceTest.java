@@ -0,0 +1,120 @@
+package com.chwihae.service.user;
+
+import com.chwihae.domain.option.OptionEntity;
+import com.chwihae.domain.question.QuestionEntity;
+import com.chwihae.domain.user.UserEntity;
+import com.chwihae.domain.user.UserLevel;
+import com.chwihae.domain.user.UserStatsSnapshot;
+import com.chwihae.dto.user.UserStatisticsResponse;
+import com.chwihae.event.user.UserLevelUpEvent;
+import com.chwihae.infra.fixture.OptionEntityFixture;
+import com.chwihae.infra.fixture.QuestionEntityFixture;
+import com.chwihae.infra.fixture.UserEntityFixture;
+import com.chwihae.infra.fixture.VoteEntityFixture;
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@RecordApplicationEvents
+@Transactional
+class UserStatsServiceTest extends AbstractIntegrationTest {
+
+    @Autowired
+    UserStatsService userStatsService;
+
+    @Autowired
+    ApplicationEvents applicationEvents;
+
+    @AfterEach
+    void tearDown() {
+        userStatsCacheRepository.clear();
+    }
+
+    @Test
+    @DisplayName("통계 행이 없는 사용자가 투표하면 실제 투표 수로 통계 행을 만든다")
+    void createVote_withoutUserStats_createsUserStats() throws Exception {
+        //given
+        UserEntity questioner = userRepository.save(UserEntityFixture.of());
+        UserEntity voter = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(questioner));
+        OptionEntity option = optionRepository.save(OptionEntityFixture.of(question));
+
+        //when
+        voteService.createVote(question.getId(), option.getId(), voter.getId());
+
+        //then
+        Assertions.assertThat(userStatsRepository.findSnapshotByUserId(voter.getId()))
+                .hasValueSatisfying(it -> {
+                    Assertions.assertThat(it.getVoteCount()).isOne();
+                    Assertions.assertThat(it.getCommentCount()).isZero();
+                    Assertions.assertThat(it.getLevel()).isEqualTo(UserLevel.BACHELOR);
+                });
+    }
+
+    @Test
+    @DisplayName("투표 수와 댓글 수가 레벨 기준을 넘으면 레벨을 저장하고 레벨 상승 이벤트를 한 번 발행한다")
+    void increaseCounts_whenLevelUp_updatesLevelAndPublishesEvent() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        userStatsService.createUserStats(user);
+
+        //when
+        IntStream.range(0, (int) UserLevel.MASTER.getVoteCount()).forEach(i -> userStatsService.increaseVoteCount(user.getId()));
+        IntStream.range(0, (int) UserLevel.MASTER.getCommentCount()).forEach(i -> userStatsService.increaseCommentCount(user.getId()));
+
+        //then
+        UserStatsSnapshot snapshot = userStatsRepository.findSnapshotByUserId(user.getId()).orElseThrow();
+        Assertions.assertThat(snapshot.getLevel()).isEqualTo(UserLevel.MASTER);
+        Assertions.assertThat(applicationEvents.stream(UserLevelUpEvent.class))
+                .containsExactly(new UserLevelUpEvent(user.getId(), UserLevel.BACHELOR, UserLevel.MASTER));
+    }
+
+    @Test
+    @DisplayName("사용자 통계를 조회하면 Redis 에 저장하고 이후에는 Redis 에서 조회한다")
+    void getUserStatistics_cachesStatistics() throws Exception {
+        //given
+        UserEntity user = userRepository.save(UserEntityFixture.of());
+        userStatsService.createUserStats(user);
+        userStatsService.increaseVoteCount(user.getId());
+
+        //when
+        UserStatisticsResponse statistics = userStatsService.getUserStatistics(user.getId());
+
+        //then
+        Assertions.assertThat(statistics.getVoteCount()).isOne();
+        Assertions.assertThat(statistics.getLevel()).isEqualTo(UserLevel.BACHELOR);
+        Assertions.assertThat(userStatsCacheRepository.get(user.getId()))
+                .hasValueSatisfying(it -> Assertions.assertThat(it.getVoteCount()).isOne());
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 통계를 한 번에 실제 투표 수로 맞추고, 통계 행이 없는 사용자는 행을 만든다")
+    void syncCounts_withMultipleUsers_syncsAllAtOnce() throws Exception {
+        //given
+        UserEntity questioner = userRepository.save(UserEntityFixture.of());
+        UserEntity voterWithStats = userRepository.save(UserEntityFixture.of());
+        UserEntity voterWithoutStats = userRepository.save(UserEntityFixture.of());
+        userStatsService.createUserStats(voterWithStats);
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(questioner));
+        OptionEntity option = optionRepository.save(OptionEntityFixture.of(question));
+        voteRepository.saveAll(List.of(VoteEntityFixture.of(option, voterWithStats), VoteEntityFixture.of(option, voterWithoutStats)));
+
+        //when
+        userStatsService.syncCounts(Set.of(voterWithStats.getId(), voterWithoutStats.getId()));
+
+        //then
+        Assertions.assertThat(userStatsRepository.findSnapshotsByUserIdIn(List.of(voterWithStats.getId(), voterWithoutStats.getId())))
+                .hasSize(2)
+                .allSatisfy(it -> Assertions.assertThat(it.getVoteCount()).isOne());
+    }
+}
@@ -0,0 +1,94 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.dto.option.response.Option;
+import com.chwihae.infra.test.AbstractMockTest;
+import com.chwihae.service.option.OptionService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+class VoteResultBroadcasterTest extends AbstractMockTest {
+
+    @Mock
+    OptionService optionService;
+
+    @Mock
+    Executor voteBroadcastExecutor;
+
+    @InjectMocks
+    VoteResultBroadcaster voteResultBroadcaster;
+
+    @Test
+    @DisplayName("같은 질문의 구독자가 여러 명이어도 투표 결과는 한 번만 조회한다")
+    void broadcast_withMultipleSubscribers_findsOptionsOnce() throws Exception {
+        //given
+        long questionId = 1L;
+        List<Option> options = List.of(new Option(10L, "option", 0L));
+        voteResultBroadcaster.subscribe(questionId, options);
+        voteResultBroadcaster.subscribe(questionId, options);
+        voteResultBroadcaster.subscribe(questionId, options);
+
+        Mockito.when(optionService.findOptionsWithResultsByQuestionId(questionId, true))
+                .thenReturn(List.of(new Option(10L, "option", 1L)));
+
+        //when
+        voteResultBroadcaster.broadcast();
+
+        //then
+        Mockito.verify(optionService, Mockito.times(1)).findOptionsWithResultsByQuestionId(questionId, true);
+        Assertions.assertThat(voteResultBroadcaster.getSubscriberCount(questionId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 질문은 투표 결과를 조회하지 않는다")
+    void broadcast_withoutSubscribers_doesNotFindOptions() throws Exception {
+        //when
+        voteResultBroadcaster.broadcast();
+
+        //then
+        Mockito.verify(optionService, Mockito.never()).findOptionsWithResultsByQuestionId(Mockito.any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    @DisplayName("투표 결과 전송은 스케줄러 스레드가 아닌 전송 실행기에 맡긴다")
+    void broadcast_whenVoteCountsChanged_sendsOnBroadcastExecutor() throws Exception {
+        //given
+        long questionId = 1L;
+        voteResultBroadcaster.subscribe(questionId, List.of(new Option(10L, "option", 0L)));
+        voteResultBroadcaster.subscribe(questionId, List.of(new Option(10L, "option", 0L)));
+
+        Mockito.when(optionService.findOptionsWithResultsByQuestionId(questionId, true))
+                .thenReturn(List.of(new Option(10L, "option", 1L)));
+
+        //when
+        voteResultBroadcaster.broadcast();
+
+        //then
+        Mockito.verify(voteBroadcastExecutor, Mockito.times(2)).execute(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("이전 전송이 끝나지 않은 구독자에게는 전송을 더 맡기지 않고 최신 결과만 보낸다")
+    void broadcast_whenPreviousSendPending_coalescesSends() throws Exception {
+        //given
+        long questionId = 1L;
+        voteResultBroadcaster.subscribe(questionId, List.of(new Option(10L, "option", 0L)));
+
+        Mockito.when(optionService.findOptionsWithResultsByQuestionId(questionId, true))
+                .thenReturn(List.of(new Option(10L, "option", 1L)))
+                .thenReturn(List.of(new Option(10L, "option", 2L)));
+
+        //when
+        voteResultBroadcaster.broadcast();
+        voteResultBroadcaster.broadcast();
+
+        //then
+        Mockito.verify(voteBroadcastExecutor, Mockito.times(1)).execute(Mockito.any());
+    }
+}
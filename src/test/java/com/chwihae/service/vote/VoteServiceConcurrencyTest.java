@@ -34,6 +34,7 @@ class VoteServiceConcurrencyTest extends AbstractConcurrencyTest {
         voteRepository.physicallyDeleteAll();
         optionRepository.physicallyDeleteAll();
         questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
         userRepository.physicallyDeleteAll();
     }
 
@@ -0,0 +1,76 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.config.properties.VoteWriteBehindProperties;
+import com.chwihae.config.redis.VoteStreamRepository;
+import com.chwihae.domain.question.QuestionEntity;
+import com.chwihae.domain.vote.VoteEntity;
+import com.chwihae.domain.vote.VoteRepository;
+import com.chwihae.infra.test.AbstractMockTest;
+import com.chwihae.service.option.OptionService;
+import com.chwihae.service.question.core.QuestionStatsService;
+import com.chwihae.service.question.query.QuestionQueryService;
+import com.chwihae.service.user.UserService;
+import com.chwihae.service.user.UserStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class VoteServiceMockTest extends AbstractMockTest {
+
+    @InjectMocks
+    private VoteService voteService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private QuestionQueryService questionQueryService;
+
+    @Mock
+    private OptionService optionService;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private QuestionStatsService questionStatsService;
+
+    @Mock
+    private VoteResultBroadcaster voteResultBroadcaster;
+
+    @Mock
+    private VoteWriteBehindProperties voteWriteBehindProperties;
+
+    @Mock
+    private VoteStreamRepository voteStreamRepository;
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Test
+    @DisplayName("투표할 때 옵션과 사용자를 조회하지 않고 참조만 사용한다")
+    void createVote_usesReferencesWithoutReadingOptionAndUser() {
+        // given
+        Long questionId = 1L;
+        Long optionId = 2L;
+        Long userId = 3L;
+        QuestionEntity questionEntity = mock(QuestionEntity.class);
+        when(questionQueryService.findQuestionOrException(questionId)).thenReturn(questionEntity);
+
+        // when
+        voteService.createVote(questionId, optionId, userId);
+
+        // then
+        verify(optionService).getOptionReference(optionId);
+        verify(userService).getUserReference(userId);
+        verify(optionService, never()).findOptionOrException(anyLong());
+        verify(userService, never()).findUserOrException(anyLong());
+        verify(voteRepository, never()).existsByQuestionEntityIdAndUserEntityId(anyLong(), anyLong());
+        verify(voteRepository).save(any(VoteEntity.class));
+    }
+}
@@ -7,12 +7,16 @@ import com.chwihae.domain.user.UserEntity;
 import com.chwihae.domain.vote.VoteEntity;
 import com.chwihae.dto.option.response.VoteOptionResponse;
 import com.chwihae.exception.CustomException;
+import com.chwihae.infra.fixture.QuestionStatsFixture;
 import com.chwihae.infra.fixture.UserEntityFixture;
 import com.chwihae.infra.test.AbstractIntegrationTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -244,6 +248,52 @@ class VoteServiceTest extends AbstractIntegrationTest {
         Assertions.assertThat(optionRepository.findAll()).hasSize(1);
     }
 
+    @Test
+    @DisplayName("투표하면 질문 통계의 투표 수가 증가한다")
+    void createVote_increasesQuestionStatsVoteCount() throws Exception {
+        //given
+        UserEntity questioner = UserEntityFixture.of("questioner@email.com");
+        UserEntity voter = UserEntityFixture.of("voter@email.com");
+        userRepository.saveAll(List.of(questioner, voter));
+
+        LocalDateTime closeAt = LocalDateTime.now().plusDays(1);
+        QuestionEntity questionEntity = questionRepository.save(createQuestion(questioner, closeAt));
+        questionStatsRepository.save(QuestionStatsFixture.of(questionEntity));
+        OptionEntity option = optionRepository.save(createOption(questionEntity, "name"));
+
+        //when
+        voteService.createVote(questionEntity.getId(), option.getId(), voter.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        Assertions.assertThat(questionStatsRepository.findByQuestionEntityId(questionEntity.getId()))
+                .hasValueSatisfying(it -> Assertions.assertThat(it.getVoteCount()).isOne());
+    }
+
+    @Test
+    @DisplayName("투표하면 트랜잭션이 커밋된 뒤에 캐시된 옵션의 투표 수가 증가한다")
+    void createVote_increasesCachedVoteTallyAfterCommit() throws Exception {
+        //given
+        UserEntity questioner = UserEntityFixture.of("questioner@email.com");
+        UserEntity voter = UserEntityFixture.of("voter@email.com");
+        userRepository.saveAll(List.of(questioner, voter));
+
+        LocalDateTime closeAt = LocalDateTime.now().plusDays(1);
+        QuestionEntity questionEntity = questionRepository.save(createQuestion(questioner, closeAt));
+        OptionEntity option = optionRepository.save(createOption(questionEntity, "name"));
+        voteService.getVoteOptions(questionEntity.getId(), questioner.getId()); // 캐시 생성
+
+        //when
+        voteService.createVote(questionEntity.getId(), option.getId(), voter.getId());
+
+        //then
+        Assertions.assertThat(voteTallyCacheRepository.getTallies(questionEntity.getId())).containsEntry(option.getId(), 0L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        Assertions.assertThat(voteTallyCacheRepository.getTallies(questionEntity.getId())).containsEntry(option.getId(), 1L);
+        voteTallyCacheRepository.delete(questionEntity.getId());
+    }
+
     @Test
     @DisplayName("질문 작성자는 투표를 할 수 없다")
     void createVote_byQuestioner_throwsException() throws Exception {
@@ -332,7 +382,7 @@ class VoteServiceTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @DisplayName("투표자는 존재하지 않은 옵션에 투표를 할 수 없다")
+    @DisplayName("존재하지 않은 사용자는 투표를 할 수 없다")
     void createVote_whenVoterNotExists_throwsException() throws Exception {
         //given
         long notExistingVoterId = 0L;
@@ -347,6 +397,29 @@ class VoteServiceTest extends AbstractIntegrationTest {
                 .isEqualTo(USER_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("투표 저장 시 매핑되지 않은 제약 조건 위반은 그대로 던진다")
+    void createVote_whenUnmappedConstraintViolated_rethrowsException() throws Exception {
+        //given
+        UserEntity questioner = UserEntityFixture.of("questioner@email.com");
+        UserEntity voter = UserEntityFixture.of("voter@email.com");
+        userRepository.saveAll(List.of(questioner, voter));
+        LocalDateTime closeAt = LocalDateTime.now().plusDays(1);
+        QuestionEntity deletedQuestion = questionRepository.save(createQuestion(questioner, closeAt));
+        QuestionEntity otherQuestion = questionRepository.save(createQuestion(questioner, closeAt));
+        OptionEntity option = optionRepository.save(createOption(otherQuestion, "name"));
+        entityManager.flush();
+
+        // 영속성 컨텍스트에는 질문이 남아 있으므로 insert 시 fk_vote_question 제약 조건을 위반한다
+        entityManager.createNativeQuery("delete from question where id_question = :questionId")
+                .setParameter("questionId", deletedQuestion.getId())
+                .executeUpdate();
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> voteService.createVote(deletedQuestion.getId(), option.getId(), voter.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     @DisplayName("사용자가 투표를 취소하면 투표를 삭제한다")
     void deleteVote_pass() throws Exception {
@@ -0,0 +1,71 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.domain.option.OptionEntity;
+import com.chwihae.domain.question.QuestionEntity;
+import com.chwihae.domain.user.UserEntity;
+import com.chwihae.dto.option.response.Option;
+import com.chwihae.infra.fixture.OptionEntityFixture;
+import com.chwihae.infra.fixture.QuestionEntityFixture;
+import com.chwihae.infra.fixture.UserEntityFixture;
+import com.chwihae.infra.fixture.VoteEntityFixture;
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Transactional
+class VoteTallyReconcilerTest extends AbstractIntegrationTest {
+
+    @Autowired
+    VoteTallyReconciler voteTallyReconciler;
+
+    @AfterEach
+    void tearDown() {
+        voteTallyCacheRepository.clear();
+    }
+
+    @Test
+    @DisplayName("캐시된 투표 수가 DB 집계와 다르면 DB 집계로 보정한다")
+    void reconcile_whenDrifted_repairsTallies() throws Exception {
+        //given
+        UserEntity questioner = userRepository.save(UserEntityFixture.of());
+        UserEntity voter = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(questioner));
+        OptionEntity option1 = optionRepository.save(OptionEntityFixture.of(question));
+        OptionEntity option2 = optionRepository.save(OptionEntityFixture.of(question));
+        voteRepository.save(VoteEntityFixture.of(option1, voter));
+        voteTallyCacheRepository.initializeTallies(question.getId(), List.of(
+                new Option(option1.getId(), option1.getName(), 5L),
+                new Option(option2.getId(), option2.getName(), 0L)));
+
+        //when
+        boolean repaired = voteTallyReconciler.reconcile(question.getId());
+
+        //then
+        Assertions.assertThat(repaired).isTrue();
+        Assertions.assertThat(voteTallyCacheRepository.getTallies(question.getId()))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(option1.getId(), 1L, option2.getId(), 0L));
+    }
+
+    @Test
+    @DisplayName("캐시된 투표 수가 DB 집계와 같으면 보정하지 않는다")
+    void reconcile_whenConsistent_doesNothing() throws Exception {
+        //given
+        UserEntity questioner = userRepository.save(UserEntityFixture.of());
+        QuestionEntity question = questionRepository.save(QuestionEntityFixture.of(questioner));
+        OptionEntity option = optionRepository.save(OptionEntityFixture.of(question));
+        voteTallyCacheRepository.initializeTallies(question.getId(), List.of(new Option(option.getId(), option.getName(), 0L)));
+
+        //when
+        boolean repaired = voteTallyReconciler.reconcile(question.getId());
+
+        //then
+        Assertions.assertThat(repaired).isFalse();
+    }
+}
@@ -0,0 +1,133 @@
+package com.chwihae.service.vote;
+
+import com.chwihae.domain.option.OptionEntity;
+import com.chwihae.domain.question.QuestionEntity;
+import com.chwihae.domain.user.UserEntity;
+import com.chwihae.exception.CustomException;
+import com.chwihae.infra.fixture.OptionEntityFixture;
+import com.chwihae.infra.fixture.QuestionEntityFixture;
+import com.chwihae.infra.fixture.QuestionStatsFixture;
+import com.chwihae.infra.fixture.UserEntityFixture;
+import com.chwihae.infra.test.AbstractIntegrationTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static com.chwihae.exception.CustomExceptionError.DUPLICATE_VOTE;
+
+// 스케줄러가 테스트 도중 스트림을 읽지 않도록 flush 주기를 길게 둔다
+@TestPropertySource(properties = {
+        "vote-write-behind.enabled=true",
+        "vote-write-behind.flush-interval-millis=3600000"
+})
+class VoteWriteBehindWriterTest extends AbstractIntegrationTest {
+
+    private static final long NOT_EXIST_USER_ID = Long.MAX_VALUE;
+
+    @Autowired
+    VoteWriteBehindWriter voteWriteBehindWriter;
+
+    UserEntity voter;
+    QuestionEntity question;
+    OptionEntity option;
+
+    @BeforeEach
+    void setUp() {
+        voteStreamRepository.createConsumerGroup();
+        UserEntity questioner = userRepository.save(UserEntityFixture.of());
+        voter = userRepository.save(UserEntityFixture.of());
+        question = questionRepository.save(QuestionEntityFixture.of(questioner));
+        questionStatsRepository.save(QuestionStatsFixture.of(question));
+        option = optionRepository.save(OptionEntityFixture.of(question));
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<RecordId> recordIds = voteStreamRepository.read(100, true).stream().map(MapRecord::getId).toList();
+        voteStreamRepository.acknowledge(recordIds);
+        voteStreamRepository.deleteVoters(question.getId());
+        voteTallyCacheRepository.delete(question.getId());
+        userStatsCacheRepository.clear();
+        voteRepository.physicallyDeleteAll();
+        optionRepository.physicallyDeleteAll();
+        questionStatsRepository.physicallyDeleteAll();
+        questionRepository.physicallyDeleteAll();
+        userStatsRepository.physicallyDeleteAll();
+        userRepository.physicallyDeleteAll();
+    }
+
+    @Test
+    @DisplayName("투표하면 DB 에 바로 저장하지 않고 스트림에 적재한 뒤 flush 때 저장한다")
+    void createVote_appendsToStream_andFlushSavesVote() throws Exception {
+        //when
+        voteService.createVote(question.getId(), option.getId(), voter.getId());
+        boolean storedBeforeFlush = voteRepository.existsByQuestionEntityIdAndUserEntityId(question.getId(), voter.getId());
+        int inserted = voteWriteBehindWriter.flush();
+
+        //then
+        Assertions.assertThat(storedBeforeFlush).isFalse();
+        Assertions.assertThat(inserted).isOne();
+        Assertions.assertThat(voteRepository.existsByQuestionEntityIdAndUserEntityId(question.getId(), voter.getId())).isTrue();
+        Assertions.assertThat(questionStatsRepository.findByQuestionEntityId(question.getId()))
+                .hasValueSatisfying(it -> Assertions.assertThat(it.getVoteCount()).isOne());
+        Assertions.assertThat(userStatsRepository.findSnapshotByUserId(voter.getId()))
+                .hasValueSatisfying(it -> Assertions.assertThat(it.getVoteCount()).isOne());
+    }
+
+    @Test
+    @DisplayName("스트림에 적재되어 아직 저장되지 않은 투표가 있어도 같은 사용자는 다시 투표할 수 없다")
+    void createVote_whenBufferedVoteExists_throwsDuplicateVote() throws Exception {
+        //given
+        voteService.createVote(question.getId(), option.getId(), voter.getId());
+
+        //when //then
+        Assertions.assertThatThrownBy(() -> voteService.createVote(question.getId(), option.getId(), voter.getId()))
+                .isInstanceOf(CustomException.class)
+                .extracting("error")
+                .isEqualTo(DUPLICATE_VOTE);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 투표가 다시 전달되어도 한 번만 저장하고 질문의 투표 수도 한 번만 늘린다")
+    void flush_whenVoteRedelivered_savesAndCountsOnce() throws Exception {
+        //given
+        voteStreamRepository.append(question.getId(), option.getId(), voter.getId());
+        voteWriteBehindWriter.flush();
+        voteStreamRepository.append(question.getId(), option.getId(), voter.getId());
+
+        //when
+        int inserted = voteWriteBehindWriter.flush();
+
+        //then
+        Assertions.assertThat(inserted).isZero();
+        Assertions.assertThat(voteRepository.findVoterIdsByQuestionId(question.getId())).hasSize(1);
+        Assertions.assertThat(questionStatsRepository.findByQuestionEntityId(question.getId()))
+                .hasValueSatisfying(it -> Assertions.assertThat(it.getVoteCount()).isOne());
+    }
+
+    @Test
+    @DisplayName("외래 키를 위반한 투표는 버리고 나머지 투표만 저장한다")
+    void flush_whenForeignKeyViolated_dropsOnlyInvalidVote() throws Exception {
+        //given
+        voteStreamRepository.append(question.getId(), option.getId(), NOT_EXIST_USER_ID);
+        voteStreamRepository.append(question.getId(), option.getId(), voter.getId());
+
+        //when
+        int inserted = voteWriteBehindWriter.flush();
+
+        //then
+        Assertions.assertThat(inserted).isOne();
+        Assertions.assertThat(voteRepository.findVoterIdsByQuestionId(question.getId())).containsExactly(voter.getId());
+        Assertions.assertThat(questionStatsRepository.findByQuestionEntityId(question.getId()))
+                .hasValueSatisfying(it -> Assertions.assertThat(it.getVoteCount()).isOne());
+        Assertions.assertThat(voteStreamRepository.read(100, true)).isEmpty();
+    }
+}